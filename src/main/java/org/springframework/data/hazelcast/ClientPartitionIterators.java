@@ -0,0 +1,55 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast;
+
+import com.hazelcast.client.proxy.ClientMapProxy;
+import com.hazelcast.core.IMap;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.query.Predicate;
+
+import java.util.Map.Entry;
+
+/**
+ * <p>
+ * The client side of {@link PartitionIterator}, kept apart so that {@link ClientMapProxy} is only loaded when the
+ * Hazelcast client is on the classpath. Callers check for it before using this class.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+final class ClientPartitionIterators {
+
+    private ClientPartitionIterators() {
+    }
+
+    static boolean isClientProxy(IMap<?, ?> map) {
+        return map instanceof ClientMapProxy;
+    }
+
+    static <K, V> PartitionIterator<Entry<K, V>> entries(IMap<K, V> map, int partitionCount, int fetchSize,
+                                                         boolean prefetchValues) {
+        ClientMapProxy<K, V> proxy = (ClientMapProxy<K, V>) map;
+        return new PartitionIterator<>(partitionCount,
+                partitionId -> proxy.iterator(fetchSize, partitionId, prefetchValues));
+    }
+
+    static <K, V, R> PartitionIterator<R> project(IMap<K, V> map, int partitionCount, int fetchSize,
+                                                  Projection<Entry<K, V>, R> projection, Predicate<K, V> predicate) {
+        ClientMapProxy<K, V> proxy = (ClientMapProxy<K, V>) map;
+        return new PartitionIterator<>(partitionCount,
+                partitionId -> proxy.iterator(fetchSize, partitionId, projection, predicate));
+    }
+}
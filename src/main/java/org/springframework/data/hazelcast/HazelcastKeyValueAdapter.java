@@ -15,20 +15,45 @@
  */
 package org.springframework.data.hazelcast;
 
+import com.hazelcast.aggregation.Aggregator;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.MapAttributeConfig;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.DistributedObject;
+import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ICompletableFuture;
 import com.hazelcast.core.IMap;
+import com.hazelcast.core.PartitionService;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.QueryConstants;
+import com.hazelcast.query.TruePredicate;
+import com.hazelcast.query.impl.FalsePredicate;
 import org.springframework.data.hazelcast.repository.config.Constants;
+import org.springframework.data.hazelcast.repository.query.LowerCaseValueExtractor;
 import org.springframework.data.keyvalue.core.AbstractKeyValueAdapter;
 import org.springframework.data.keyvalue.core.ForwardingCloseableIterator;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.Assert;
 
 import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Christoph Strobl
@@ -36,7 +61,23 @@ import java.util.Map.Entry;
  */
 public class HazelcastKeyValueAdapter extends AbstractKeyValueAdapter {
 
+    /**
+     * Default maximum number of entries sent to Hazelcast in one bulk operation.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Default maximum number of entries retrieved in one call when iterating a whole map.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
     private HazelcastInstance hzInstance;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private boolean prefetchValues = true;
+    private WriteMode writeMode = WriteMode.PUT;
+    private final Map<String, WriteMode> keyspaceWriteModes = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> keyspaceAttributes = new ConcurrentHashMap<>();
 
     public HazelcastKeyValueAdapter() {
         this(Hazelcast.getOrCreateHazelcastInstance(new Config(Constants.HAZELCAST_INSTANCE_NAME)));
@@ -52,6 +93,109 @@ public class HazelcastKeyValueAdapter extends AbstractKeyValueAdapter {
         this.hzInstance = hzInstance;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * <p>
+     * Set the maximum number of entries sent in one bulk operation, such as {@link #putAll(Map, String)}.
+     * </P>
+     *
+     * @param batchSize Must be positive
+     */
+    public void setBatchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize must be positive.");
+        this.batchSize = batchSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * <p>
+     * Set the maximum number of entries retrieved in one call by {@link #entries(String)} and
+     * {@link #getAllOf(String)}. Iterating either holds at most this many entries at a time, unless the caller keeps
+     * what it has iterated.
+     * </P>
+     *
+     * @param fetchSize Must be positive
+     */
+    public void setFetchSize(int fetchSize) {
+        Assert.isTrue(fetchSize > 0, "fetchSize must be positive.");
+        this.fetchSize = fetchSize;
+    }
+
+    public boolean isPrefetchValues() {
+        return prefetchValues;
+    }
+
+    /**
+     * <p>
+     * Set whether {@link #entries(String)} and {@link #getAllOf(String)} retrieve values in the same call as their
+     * keys, or fetch each value only when it is used.
+     * </P>
+     *
+     * @param prefetchValues {@code true} by default
+     */
+    public void setPrefetchValues(boolean prefetchValues) {
+        this.prefetchValues = prefetchValues;
+    }
+
+    public WriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    /**
+     * <p>
+     * Set how {@link #put(Object, Object, String)} writes entries, for keyspaces without their own write mode.
+     * </P>
+     *
+     * @param writeMode Not null, {@link WriteMode#PUT} by default
+     */
+    public void setWriteMode(WriteMode writeMode) {
+        Assert.notNull(writeMode, "writeMode must not be 'null'.");
+        this.writeMode = writeMode;
+    }
+
+    /**
+     * <p>
+     * The write mode used for a keyspace, its own if set or the adapter's otherwise.
+     * </P>
+     *
+     * @param keyspace The map name
+     * @return The write mode
+     */
+    public WriteMode getWriteMode(String keyspace) {
+        return this.keyspaceWriteModes.getOrDefault(keyspace, this.writeMode);
+    }
+
+    /**
+     * <p>
+     * Set how {@link #put(Object, Object, String)} writes entries for one keyspace, overriding the adapter's
+     * write mode.
+     * </P>
+     *
+     * @param keyspace  The map name
+     * @param writeMode Not null
+     */
+    public void setWriteMode(String keyspace, WriteMode writeMode) {
+        Assert.notNull(keyspace, "keyspace must not be 'null'.");
+        Assert.notNull(writeMode, "writeMode must not be 'null'.");
+        this.keyspaceWriteModes.put(keyspace, writeMode);
+    }
+
+    /**
+     * <p>
+     * Write an entry using the {@link WriteMode} of the keyspace.
+     * </P>
+     *
+     * @param id       Not null
+     * @param item     Not null
+     * @param keyspace The map name
+     * @return The previous value for {@link WriteMode#PUT}, otherwise always {@code null}
+     */
     @SuppressWarnings("unchecked")
     @Override
     public Object put(Object id, Object item, String keyspace) {
@@ -59,7 +203,101 @@ public class HazelcastKeyValueAdapter extends AbstractKeyValueAdapter {
         Assert.notNull(id, "Id must not be 'null' for adding.");
         Assert.notNull(item, "Item must not be 'null' for adding.");
 
-        return getMap(keyspace).put(id, item);
+        switch (getWriteMode(keyspace)) {
+            case SET:
+                getMap(keyspace).set(id, item);
+                return null;
+            case SET_ASYNC:
+                getMap(keyspace).setAsync(id, item);
+                return null;
+            case PUT:
+            default:
+                return getMap(keyspace).put(id, item);
+        }
+    }
+
+    /**
+     * <p>
+     * Store many entries in a keyspace with {@code IMap.putAll} rather than one {@code IMap.put} per entry.
+     * </P>
+     * <p>
+     * Entries are grouped by the partition that owns their key, and sent in chunks of at most {@link #getBatchSize()}
+     * entries, so each call touches as few partitions as possible and no single call grows unbounded.
+     * </P>
+     *
+     * @param entries  Keys and values to store, neither may be {@code null}
+     * @param keyspace The map name
+     */
+    @SuppressWarnings("unchecked")
+    public void putAll(Map<?, ?> entries, String keyspace) {
+
+        Assert.notNull(entries, "Entries must not be 'null' for adding.");
+        for (Entry<?, ?> entry : entries.entrySet()) {
+            Assert.notNull(entry.getKey(), "Id must not be 'null' for adding.");
+            Assert.notNull(entry.getValue(), "Item must not be 'null' for adding.");
+        }
+
+        IMap<Object, Object> map = getMap(keyspace);
+        for (List<?> chunk : partitionChunks(entries.keySet())) {
+            Map<Object, Object> batch = new LinkedHashMap<>(chunk.size());
+            for (Object id : chunk) {
+                batch.put(id, entries.get(id));
+            }
+            map.putAll(batch);
+        }
+    }
+
+    /**
+     * <p>
+     * Write an entry without blocking, using {@code IMap.putAsync} for {@link WriteMode#PUT} and
+     * {@code IMap.setAsync} otherwise.
+     * </P>
+     *
+     * @param id       Not null
+     * @param item     Not null
+     * @param keyspace The map name
+     * @return The previous value for {@link WriteMode#PUT}, otherwise always {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Object> putAsync(Object id, Object item, String keyspace) {
+
+        Assert.notNull(id, "Id must not be 'null' for adding.");
+        Assert.notNull(item, "Item must not be 'null' for adding.");
+
+        if (getWriteMode(keyspace) == WriteMode.PUT) {
+            return toCompletableFuture(getMap(keyspace).putAsync(id, item));
+        }
+        return toCompletableFuture(getMap(keyspace).setAsync(id, item)).thenApply(ignored -> null);
+    }
+
+    /**
+     * <p>
+     * Retrieve an entry without blocking, using {@code IMap.getAsync}.
+     * </P>
+     *
+     * @param id       Not null
+     * @param keyspace The map name
+     * @return The value, or {@code null} if none
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Object> getAsync(Object id, String keyspace) {
+        Assert.notNull(id, "Id must not be 'null' for lookup.");
+        return toCompletableFuture(getMap(keyspace).getAsync(id));
+    }
+
+    /**
+     * <p>
+     * Remove an entry without blocking, using {@code IMap.removeAsync}.
+     * </P>
+     *
+     * @param id       Not null
+     * @param keyspace The map name
+     * @return The value removed, or {@code null} if none
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Object> deleteAsync(Object id, String keyspace) {
+        Assert.notNull(id, "Id must not be 'null' for removal.");
+        return toCompletableFuture(getMap(keyspace).removeAsync(id));
     }
 
     @Override
@@ -67,26 +305,328 @@ public class HazelcastKeyValueAdapter extends AbstractKeyValueAdapter {
         return getMap(keyspace).containsKey(id);
     }
 
+    /**
+     * <p>
+     * Add an index to a keyspace with {@code IMap.addIndex}. Adding an index that already exists has no effect.
+     * </P>
+     *
+     * @param attribute A property, or dotted path to one
+     * @param ordered   {@code true} for a sorted index, which also serves range queries
+     * @param keyspace  The map name
+     */
+    public void addIndex(String attribute, boolean ordered, String keyspace) {
+        Assert.hasText(attribute, "Attribute must not be empty.");
+        getMap(keyspace).addIndex(attribute, ordered);
+    }
+
+    /**
+     * <p>
+     * Add custom attributes to a keyspace's map configuration, such as the lower-cased value of a property from
+     * {@link LowerCaseValueExtractor}, so they can be indexed. Attributes already configured, in the member's
+     * configuration or earlier through this adapter, are left as they are. A client cannot read the cluster's
+     * configuration, so only knows of the latter.
+     * </P>
+     * <p>
+     * Configuration only applies to maps not yet created, so the attributes must be configured in advance if the map
+     * may already exist. All of a map's attributes have to be added at once for the same reason.
+     * </P>
+     *
+     * @param attributes Names and extractors
+     * @param keyspace   The map name
+     * @throws IllegalStateException If an attribute is not configured and cannot be added
+     */
+    public void addCustomAttributes(Collection<MapAttributeConfig> attributes, String keyspace) {
+        Assert.notNull(attributes, "Attributes must not be 'null'.");
+        Config config = this.hzInstance.getConfig();
+
+        MapConfig mapConfig;
+        try {
+            mapConfig = config.findMapConfig(keyspace);
+        } catch (UnsupportedOperationException clientConfig) {
+            mapConfig = null;
+        }
+
+        Set<String> configured = this.keyspaceAttributes.computeIfAbsent(keyspace,
+                key -> ConcurrentHashMap.newKeySet());
+        List<MapAttributeConfig> missing = new ArrayList<>();
+        for (MapAttributeConfig attribute : attributes) {
+            boolean present = configured.contains(attribute.getName());
+            if (mapConfig != null) {
+                for (MapAttributeConfig mapAttributeConfig : mapConfig.getMapAttributeConfigs()) {
+                    present |= attribute.getName().equals(mapAttributeConfig.getName());
+                }
+            }
+            if (!present) {
+                missing.add(attribute);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        String message = String.format("Map '%s' needs MapAttributeConfig %s.", keyspace, missing);
+        for (DistributedObject distributedObject : this.hzInstance.getDistributedObjects()) {
+            if (distributedObject instanceof IMap && keyspace.equals(distributedObject.getName())) {
+                throw new IllegalStateException(message + " It already exists so cannot be configured now.");
+            }
+        }
+
+        MapConfig withAttributes = (mapConfig == null ? new MapConfig() : new MapConfig(mapConfig));
+        withAttributes.setName(keyspace);
+        for (MapAttributeConfig attribute : missing) {
+            withAttributes.addMapAttributeConfig(attribute);
+        }
+        try {
+            config.addMapConfig(withAttributes);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(message, e);
+        }
+        missing.forEach(attribute -> configured.add(attribute.getName()));
+    }
+
     @Override
     public Object get(Object id, String keyspace) {
         return getMap(keyspace).get(id);
     }
 
+    /**
+     * <p>
+     * Retrieve many entries from a keyspace with {@code IMap.getAll} rather than one {@code IMap.get} per key.
+     * </P>
+     * <p>
+     * Keys are grouped by the partition that owns them, and requested in chunks of at most {@link #getBatchSize()}.
+     * Hazelcast sends each chunk to the owning members in parallel.
+     * </P>
+     *
+     * @param ids      Keys to look up, none may be {@code null}
+     * @param keyspace The map name
+     * @return The keys found and their values, keys not present are omitted
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Object, Object> getAll(Collection<?> ids, String keyspace) {
+
+        Assert.notNull(ids, "Ids must not be 'null' for lookup.");
+        for (Object id : ids) {
+            Assert.notNull(id, "Id must not be 'null' for lookup.");
+        }
+
+        IMap<Object, Object> map = getMap(keyspace);
+        Map<Object, Object> result = new HashMap<>();
+        for (List<?> chunk : partitionChunks(new LinkedHashSet<>(ids))) {
+            result.putAll(map.getAll(new LinkedHashSet<Object>(chunk)));
+        }
+        return result;
+    }
+
     @Override
     public Object delete(Object id, String keyspace) {
         return getMap(keyspace).remove(id);
     }
 
+    /**
+     * <p>
+     * The values of a keyspace, as a view that retrieves them lazily, see {@link #entries(String)}. Each iteration
+     * fetches the values again, partition by partition in chunks of {@link #getFetchSize()}, and holds only the
+     * current chunk. The size is that of the map, without retrieving anything.
+     * </P>
+     * <p>
+     * Values written or removed during iteration may or may not be seen, so may not agree with the size. Callers that
+     * copy the view, as {@code KeyValueTemplate.findAll} does, still hold every value.
+     * </P>
+     *
+     * @param keyspace The map name
+     * @return A view of the values
+     */
+    @SuppressWarnings("unchecked")
     @Override
     public Collection<?> getAllOf(String keyspace) {
-        return getMap(keyspace).values();
+        IMap<Object, Object> map = getMap(keyspace);
+        if (!PartitionIterator.isSupported(map)) {
+            return map.values();
+        }
+        return new AbstractCollection<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                CloseableIterator<Entry<Object, Object>> entries = entries(map);
+                return new Iterator<Object>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        return entries.next().getValue();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return map.isEmpty();
+            }
+        };
     }
 
+    /**
+     * <p>
+     * Iterate a keyspace partition by partition, retrieving at most {@link #getFetchSize()} entries at a time rather
+     * than the whole map at once. Closing the iterator stops further retrieval.
+     * </P>
+     * <p>
+     * Entries written or removed during iteration may or may not be seen.
+     * </P>
+     *
+     * @param keyspace The map name
+     * @return A lazy iterator
+     */
     @SuppressWarnings("unchecked")
     @Override
     public CloseableIterator<Entry<Object, Object>> entries(String keyspace) {
-        Iterator<Entry<Object, Object>> iterator = this.getMap(keyspace).entrySet().iterator();
-        return new ForwardingCloseableIterator<>(iterator);
+        return entries(getMap(keyspace));
+    }
+
+    private CloseableIterator<Entry<Object, Object>> entries(IMap<Object, Object> map) {
+        if (!PartitionIterator.isSupported(map)) {
+            return new ForwardingCloseableIterator<>(map.entrySet().iterator());
+        }
+        return PartitionIterator.entries(map, getPartitionCount(), this.fetchSize, this.prefetchValues);
+    }
+
+    /**
+     * <p>
+     * Iterate the values in a keyspace that match a predicate, partition by partition, retrieving at most
+     * {@link #getFetchSize()} matches at a time. The predicate is evaluated on the members that own the partitions.
+     * Closing the iterator stops further retrieval.
+     * </P>
+     *
+     * @param criteria Search criteria, null means match everything, not a {@code PagingPredicate}
+     * @param keyspace The map name
+     * @return A lazy iterator
+     */
+    @SuppressWarnings("unchecked")
+    public CloseableIterator<Object> values(Predicate<?, ?> criteria, String keyspace) {
+        IMap<Object, Object> map = getMap(keyspace);
+        Predicate<Object, Object> predicate = (Predicate<Object, Object>) (criteria == null ? TruePredicate.INSTANCE
+                : criteria);
+
+        if (!PartitionIterator.isSupported(map)) {
+            return new ForwardingCloseableIterator<>(map.values(predicate).iterator());
+        }
+        return PartitionIterator.project(map, getPartitionCount(), this.fetchSize,
+                Projections.singleAttribute(QueryConstants.THIS_ATTRIBUTE_NAME.value()), predicate);
+    }
+
+    /**
+     * <p>
+     * Read only some attributes of the values in a keyspace that match a predicate. The attributes are extracted on
+     * the members that own the entries, so only they are sent back rather than the whole values.
+     * </P>
+     *
+     * @param criteria   Search criteria, null means match everything, not a {@code PagingPredicate}
+     * @param keyspace   The map name
+     * @param attributes Attributes to read, such as properties or dotted paths
+     * @return For each match, its attributes in the order requested
+     */
+    @SuppressWarnings("unchecked")
+    public Collection<Object[]> project(Predicate<?, ?> criteria, String keyspace, String... attributes) {
+        Assert.notEmpty(attributes, "Attributes must not be empty.");
+        IMap<Object, Object> map = getMap(keyspace);
+        Predicate<Object, Object> predicate = (Predicate<Object, Object>) (criteria == null ? TruePredicate.INSTANCE
+                : criteria);
+
+        return map.project(Projections.multiAttribute(attributes), predicate);
+    }
+
+    /**
+     * <p>
+     * As {@link #project(Predicate, String, String...)}, but partition by partition as for
+     * {@link #values(Predicate, String)}. Closing the iterator stops further retrieval.
+     * </P>
+     *
+     * @param criteria   Search criteria, null means match everything, not a {@code PagingPredicate}
+     * @param keyspace   The map name
+     * @param attributes Attributes to read, such as properties or dotted paths
+     * @return A lazy iterator
+     */
+    @SuppressWarnings("unchecked")
+    public CloseableIterator<Object[]> projectLazily(Predicate<?, ?> criteria, String keyspace, String... attributes) {
+        Assert.notEmpty(attributes, "Attributes must not be empty.");
+        IMap<Object, Object> map = getMap(keyspace);
+        Predicate<Object, Object> predicate = (Predicate<Object, Object>) (criteria == null ? TruePredicate.INSTANCE
+                : criteria);
+
+        if (!PartitionIterator.isSupported(map)) {
+            return new ForwardingCloseableIterator<>(
+                    map.project(Projections.multiAttribute(attributes), predicate).iterator());
+        }
+        return PartitionIterator.project(map, getPartitionCount(), this.fetchSize,
+                Projections.multiAttribute(attributes), predicate);
+    }
+
+    /**
+     * <p>
+     * Whether any value in a keyspace matches a predicate. This is a {@code keySet} query with a page size of one, so
+     * each member sends back at most one matching key rather than every match or its value.
+     * </P>
+     * <p>
+     * The page size only trims what is sent back. Each member still evaluates the predicate against every partition
+     * it owns, so the query costs as much member-side as a count, and an index on the queried attributes helps it as
+     * much.
+     * </P>
+     *
+     * @param criteria Search criteria, null means match everything, not a {@code PagingPredicate}
+     * @param keyspace The map name
+     * @return {@code true} if there is a match
+     */
+    @SuppressWarnings("unchecked")
+    public boolean exists(Predicate<?, ?> criteria, String keyspace) {
+        IMap<Object, Object> map = getMap(keyspace);
+        if (criteria == null || criteria == TruePredicate.INSTANCE) {
+            return !map.isEmpty();
+        }
+        if (criteria == FalsePredicate.INSTANCE) {
+            return false;
+        }
+        return !map.keySet(new PagingPredicate<>((Predicate<Object, Object>) criteria, 1)).isEmpty();
+    }
+
+    /**
+     * <p>
+     * Compute an aggregate of the values in a keyspace that match a predicate. Each member aggregates the entries it
+     * owns, and only the partial results are combined here.
+     * </P>
+     *
+     * @param aggregator Such as one from {@link com.hazelcast.aggregation.Aggregators}
+     * @param criteria   Search criteria, null means match everything, not a {@code PagingPredicate}
+     * @param keyspace   The map name
+     * @param <R>        Result type of the aggregator
+     * @return The aggregate
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R aggregate(Aggregator<Entry<Object, Object>, R> aggregator, Predicate<?, ?> criteria, String keyspace) {
+        Assert.notNull(aggregator, "Aggregator must not be 'null'.");
+        IMap<Object, Object> map = getMap(keyspace);
+        if (criteria == null) {
+            return map.aggregate(aggregator);
+        }
+        return map.aggregate(aggregator, (Predicate<Object, Object>) criteria);
+    }
+
+    /**
+     * <p>
+     * The number of partitions in the cluster, the same for all maps.
+     * </P>
+     *
+     * @return Partition count
+     */
+    public int getPartitionCount() {
+        return this.hzInstance.getPartitionService().getPartitions().size();
     }
 
     @Override
@@ -104,6 +644,66 @@ public class HazelcastKeyValueAdapter extends AbstractKeyValueAdapter {
         return this.getMap(keyspace).size();
     }
 
+    /**
+     * <p>
+     * Adapt Hazelcast's future into a {@link CompletableFuture}, completed by Hazelcast's callback rather than by a
+     * thread waiting on the result.
+     * </P>
+     *
+     * @param future From an asynchronous {@code IMap} operation
+     * @param <V>    The result type
+     * @return A future completed with the same result or failure
+     */
+    private static <V> CompletableFuture<V> toCompletableFuture(ICompletableFuture<V> future) {
+        CompletableFuture<V> completableFuture = new CompletableFuture<>();
+        future.andThen(new ExecutionCallback<V>() {
+            @Override
+            public void onResponse(V response) {
+                completableFuture.complete(response);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                completableFuture.completeExceptionally(t);
+            }
+        });
+        return completableFuture;
+    }
+
+    /**
+     * <p>
+     * Split distinct keys into chunks of at most {@link #getBatchSize()}, keeping keys for the same partition together.
+     * </P>
+     *
+     * @param keys Possibly empty
+     * @return Chunks in partition order
+     */
+    private List<List<?>> partitionChunks(Collection<?> keys) {
+        PartitionService partitionService = this.hzInstance.getPartitionService();
+
+        Map<Integer, List<Object>> byPartition = new TreeMap<>();
+        for (Object key : keys) {
+            int partitionId = partitionService.getPartition(key).getPartitionId();
+            byPartition.computeIfAbsent(partitionId, k -> new ArrayList<>()).add(key);
+        }
+
+        List<List<?>> chunks = new ArrayList<>();
+        List<Object> chunk = new ArrayList<>(Math.min(keys.size(), this.batchSize));
+        for (List<Object> partitionKeys : byPartition.values()) {
+            for (Object key : partitionKeys) {
+                chunk.add(key);
+                if (chunk.size() == this.batchSize) {
+                    chunks.add(chunk);
+                    chunk = new ArrayList<>(this.batchSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
     @SuppressWarnings("rawtypes")
     protected IMap getMap(final Serializable keyspace) {
         Assert.isInstanceOf(String.class, keyspace, "Keyspace identifier must of type String.");
@@ -15,14 +15,20 @@
  */
 package org.springframework.data.hazelcast;
 
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.core.IMap;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.FalsePredicate;
 import org.springframework.data.hazelcast.repository.query.HazelcastCriteriaAccessor;
 import org.springframework.data.hazelcast.repository.query.HazelcastSortAccessor;
 import org.springframework.data.keyvalue.core.QueryEngine;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map.Entry;
 
 /**
@@ -57,45 +63,88 @@ public class HazelcastQueryEngine extends QueryEngine<HazelcastKeyValueAdapter,
 
     @Override
     public Collection<?> execute(Predicate<?, ?> criteria, Comparator<Entry<?, ?>> sort, long offset, int rows, String keyspace) {
-        Predicate<?, ?> predicateToUse = criteria;
+        if (isFalse(criteria)) {
+            return Collections.emptyList();
+        }
+
+        @SuppressWarnings("unchecked")
+        Predicate<Object, Object> predicateToUse = (Predicate<Object, Object>) criteria;
         @SuppressWarnings({"unchecked", "rawtypes"})
-        Comparator<Entry> sortToUse = (Comparator) sort;
+        Comparator<Entry<Object, Object>> sortToUse = (Comparator) sort;
+        @SuppressWarnings("unchecked")
+        IMap<Object, Object> map = this.getAdapter().getMap(keyspace);
 
         if (rows > 0) {
-            PagingPredicate pp = new PagingPredicate(predicateToUse, sortToUse, rows);
-            int x = (int) offset / rows;
-            while (x > 0) {
-                pp.nextPage();
-                x--;
+            long start = Math.max(offset, 0);
+            if (start % rows == 0) {
+                PagingPredicate<Object, Object> pp = new PagingPredicate<>(predicateToUse, sortToUse, rows);
+                pp.setPage(Math.toIntExact(start / rows));
+                return map.values(pp);
             }
-            predicateToUse = pp;
+            /* Offset not on a page boundary, such as a slice fetching one extra row. Members
+             * return the same rows for the first page covering both offset and rows as they
+             * would for the later page, the rows before the offset are dropped here.
+             */
+            PagingPredicate<Object, Object> pp = new PagingPredicate<>(predicateToUse, sortToUse,
+                    Math.toIntExact(start + rows));
+            List<Object> page = new ArrayList<>(map.values(pp));
+            return page.subList(Math.min(Math.toIntExact(start), page.size()), page.size());
+        }
 
-        } else {
-            if (sortToUse != null) {
-                predicateToUse = new PagingPredicate(predicateToUse, sortToUse, Integer.MAX_VALUE);
-            }
+        if (sortToUse != null) {
+            predicateToUse = new PagingPredicate<>(predicateToUse, sortToUse, Integer.MAX_VALUE);
         }
 
         if (predicateToUse == null) {
-            return this.getAdapter().getMap(keyspace).values();
-        } else {
-            return this.getAdapter().getMap(keyspace).values(predicateToUse);
+            return map.values();
         }
-
+        return map.values(predicateToUse);
     }
 
     /**
      * <p>
      * Execute {@code countBy*()} queries against a Hazelcast map.
      * </P>
+     * <p>
+     * Matches are counted on the members that own them, so only the total is returned. A {@link PagingPredicate}
+     * cannot be aggregated, its page of keys is counted instead.
+     * </P>
      *
-     * @param criteria Predicate to use, not null
+     * @param criteria Predicate to use, null means count everything
      * @param keyspace The map name
      * @return Results from Hazelcast
      */
+    @SuppressWarnings("unchecked")
     @Override
     public long count(final Predicate<?, ?> criteria, final String keyspace) {
-        return this.getAdapter().getMap(keyspace).keySet(criteria).size();
+        IMap<Object, Object> map = this.getAdapter().getMap(keyspace);
+
+        if (criteria == null) {
+            return map.size();
+        }
+        if (isFalse(criteria)) {
+            return 0;
+        }
+        if (criteria instanceof PagingPredicate) {
+            return map.keySet(criteria).size();
+        }
+        return map.aggregate(Aggregators.count(), (Predicate<Object, Object>) criteria);
+    }
+
+    /**
+     * <p>
+     * Whether the criteria can never match, such as a contradiction found when the query was created, in which case
+     * the members need not be asked.
+     * </P>
+     *
+     * @param criteria Possibly null
+     * @return {@code true} if nothing matches
+     */
+    private static boolean isFalse(Predicate<?, ?> criteria) {
+        if (criteria instanceof PagingPredicate) {
+            return ((PagingPredicate<?, ?>) criteria).getPredicate() instanceof FalsePredicate;
+        }
+        return criteria instanceof FalsePredicate;
     }
 
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Mark a property of a domain class to be indexed in the {@code IMap} for its keyspace.
+ * </P>
+ * <p>
+ * The index is added with {@code IMap.addIndex} when a repository for the domain class is created, so the map's
+ * configuration does not need to repeat it. A property of an embedded object is indexed by its dotted path, such as
+ * {@code address.city}.
+ * </P>
+ * <p>
+ * Use an ordered index for properties queried with ranges or sorted on, such as {@code findByYearBetween} or
+ * {@code findByLastnameStartsWith}, and an unordered index for properties only queried for equality.
+ * </P>
+ * <p>
+ * A string property queried ignoring case, such as {@code findByEmailIgnoreCase}, can also be indexed ignoring case.
+ * A lower-cased copy of the property is then indexed too, see
+ * {@link org.springframework.data.hazelcast.repository.query.LowerCaseValueExtractor LowerCaseValueExtractor}, and
+ * equality and {@code In} queries ignoring case use that copy rather than matching a pattern against every entry.
+ * </P>
+ * <p>
+ * {@code StartingWith} queries on a property with an ordered index become a range of the index rather than a
+ * pattern matched against every entry. For {@code EndingWith} queries, index the property reversed as well, see
+ * {@link org.springframework.data.hazelcast.repository.query.ReversedValueExtractor ReversedValueExtractor}, and the
+ * suffix becomes a range of that index.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+public @interface Indexed {
+
+    /**
+     * @return {@code true} for a sorted index, which also serves range queries
+     */
+    boolean ordered() default false;
+
+    /**
+     * @return {@code true} to also index a lower-cased copy, for queries ignoring case
+     */
+    boolean ignoreCase() default false;
+
+    /**
+     * @return {@code true} to also index a reversed copy with an ordered index, for {@code EndingWith} queries
+     */
+    boolean reversed() default false;
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.query.Predicate;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * Iterate across an {@code IMap} one partition at a time, holding no more than one fetch of entries in memory.
+ * </P>
+ * <p>
+ * Hazelcast's partition iterator retrieves a partition's entries in chunks of a bounded fetch size, and only asks for
+ * the next chunk when the current one is used up. This iterator chains those across all partitions in turn. Closing it
+ * stops any further fetches.
+ * </P>
+ * <p>
+ * The partition iterator is not part of the {@link IMap} interface, it is only offered by the member and client map
+ * proxies. Use {@link #isSupported(IMap)} to check before using the factory methods. The client proxy is handled by
+ * {@link ClientPartitionIterators}, so the Hazelcast client remains optional.
+ * </P>
+ *
+ * @param <T> The type iterated, entries or projections of them
+ * @author Neil Stevenson
+ */
+public class PartitionIterator<T> implements CloseableIterator<T> {
+
+    /* ClientPartitionIterators refers to the client proxy, so is only touched once this is known to be true.
+     */
+    private static final boolean CLIENT_PRESENT = ClassUtils.isPresent("com.hazelcast.client.proxy.ClientMapProxy",
+            PartitionIterator.class.getClassLoader());
+
+    private final int partitionCount;
+    private final IntFunction<Iterator<T>> partitionIterators;
+    private int partitionId;
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean closed;
+
+    /**
+     * @param partitionCount     How many partitions the map has
+     * @param partitionIterators Given a partition id, returns the iterator for that partition
+     */
+    public PartitionIterator(int partitionCount, IntFunction<Iterator<T>> partitionIterators) {
+        Assert.isTrue(partitionCount >= 0, "Partition count must not be negative.");
+        Assert.notNull(partitionIterators, "Partition iterators must not be 'null'.");
+        this.partitionCount = partitionCount;
+        this.partitionIterators = partitionIterators;
+    }
+
+    /**
+     * <p>
+     * Whether the map proxy offers partition iterators.
+     * </P>
+     *
+     * @param map The map to iterate
+     * @return {@code true} for member and client proxies
+     */
+    public static boolean isSupported(IMap<?, ?> map) {
+        return map instanceof MapProxyImpl || (CLIENT_PRESENT && ClientPartitionIterators.isClientProxy(map));
+    }
+
+    /**
+     * <p>
+     * Iterate all the entries of a map.
+     * </P>
+     *
+     * @param map            Must be {@link #isSupported supported}
+     * @param partitionCount How many partitions the map has
+     * @param fetchSize      Maximum entries retrieved in one call
+     * @param prefetchValues {@code true} to retrieve values with their keys, {@code false} to retrieve them on access
+     * @param <K>            The key type
+     * @param <V>            The value type
+     * @return Entries, partition by partition
+     */
+    public static <K, V> PartitionIterator<Entry<K, V>> entries(IMap<K, V> map, int partitionCount, int fetchSize,
+                                                                boolean prefetchValues) {
+        if (map instanceof MapProxyImpl) {
+            MapProxyImpl<K, V> proxy = (MapProxyImpl<K, V>) map;
+            return new PartitionIterator<>(partitionCount,
+                    partitionId -> proxy.iterator(fetchSize, partitionId, prefetchValues));
+        }
+        Assert.isTrue(isSupported(map), "Map proxy does not support partition iteration.");
+        return ClientPartitionIterators.entries(map, partitionCount, fetchSize, prefetchValues);
+    }
+
+    /**
+     * <p>
+     * Iterate the entries of a map that match a predicate, each transformed by a projection before it leaves the
+     * partition's owner.
+     * </P>
+     *
+     * @param map            Must be {@link #isSupported supported}
+     * @param partitionCount How many partitions the map has
+     * @param fetchSize      Maximum entries retrieved in one call
+     * @param projection     Applied to each matching entry
+     * @param predicate      Selects entries, not a {@code PagingPredicate}
+     * @param <K>            The key type
+     * @param <V>            The value type
+     * @param <R>            The projected type
+     * @return Projected matches, partition by partition
+     */
+    public static <K, V, R> PartitionIterator<R> project(IMap<K, V> map, int partitionCount, int fetchSize,
+                                                         Projection<Entry<K, V>, R> projection,
+                                                         Predicate<K, V> predicate) {
+        if (map instanceof MapProxyImpl) {
+            MapProxyImpl<K, V> proxy = (MapProxyImpl<K, V>) map;
+            return new PartitionIterator<>(partitionCount,
+                    partitionId -> proxy.iterator(fetchSize, partitionId, projection, predicate));
+        }
+        Assert.isTrue(isSupported(map), "Map proxy does not support partition iteration.");
+        return ClientPartitionIterators.project(map, partitionCount, fetchSize, projection, predicate);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.closed && !this.current.hasNext()) {
+            if (this.partitionId == this.partitionCount) {
+                return false;
+            }
+            this.current = this.partitionIterators.apply(this.partitionId++);
+        }
+        return !this.closed;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.current.next();
+    }
+
+    /**
+     * <p>
+     * Stop iterating, no further chunks are fetched.
+     * </P>
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.current = Collections.emptyIterator();
+    }
+}
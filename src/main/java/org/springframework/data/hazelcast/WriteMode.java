@@ -0,0 +1,44 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast;
+
+/**
+ * <p>
+ * How {@link HazelcastKeyValueAdapter#put(Object, Object, String)} writes an entry to an {@code IMap}.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public enum WriteMode {
+
+    /**
+     * Use {@code IMap.put}, returning the previous value. The previous value is sent back to the caller and
+     * deserialized, even if it is not used.
+     */
+    PUT,
+
+    /**
+     * Use {@code IMap.set}, which waits for the write to complete but does not return the previous value.
+     */
+    SET,
+
+    /**
+     * Use {@code IMap.setAsync}, which returns as soon as the write is sent. Failures are not reported to the caller,
+     * and a read from another thread may not see the write immediately.
+     */
+    SET_ASYNC
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * Non-blocking CRUD operations, built on the asynchronous {@code IMap} methods.
+ * </P>
+ * <p>
+ * Extend this alongside {@link HazelcastRepository} to add the methods to a repository interface. They are implemented
+ * by {@link org.springframework.data.hazelcast.repository.support.SimpleHazelcastRepository SimpleHazelcastRepository}.
+ * The returned futures are completed on Hazelcast's threads, so dependent stages should not block. Reactive
+ * applications can use {@link ReactiveHazelcastRepository} instead, which is built on these methods.
+ * </P>
+ *
+ * @param <T>  The type of the domain value class
+ * @param <ID> The type of the domain key class
+ * @author Neil Stevenson
+ */
+@NoRepositoryBean
+public interface HazelcastAsyncRepository<T extends Serializable, ID extends Serializable> extends Repository<T, ID> {
+
+    /**
+     * <p>
+     * Retrieve an entity by its id, using {@code IMap.getAsync}.
+     * </P>
+     *
+     * @param id Not null
+     * @return The entity, or empty if none is found
+     */
+    CompletableFuture<Optional<T>> findByIdAsync(ID id);
+
+    /**
+     * <p>
+     * Check if an entity exists, using {@code IMap.getAsync}.
+     * </P>
+     *
+     * @param id Not null
+     * @return {@code true} if an entity is found
+     */
+    CompletableFuture<Boolean> existsByIdAsync(ID id);
+
+    /**
+     * <p>
+     * Retrieve entities by their ids, using one {@code IMap.getAsync} per id, all in flight at once.
+     * </P>
+     *
+     * @param ids Not null
+     * @return The entities found, in the order of the ids given, omitting ids that are not found
+     */
+    CompletableFuture<List<T>> findAllByIdAsync(Iterable<ID> ids);
+
+    /**
+     * <p>
+     * Save an entity, using {@code IMap.putAsync} or {@code IMap.setAsync} depending on the
+     * {@link org.springframework.data.hazelcast.WriteMode WriteMode} of the keyspace.
+     * </P>
+     * <p>
+     * An entity without an id is saved synchronously, so one can be generated for it.
+     * </P>
+     *
+     * @param entity Not null
+     * @param <S>    The entity type
+     * @return The entity saved
+     */
+    <S extends T> CompletableFuture<S> saveAsync(S entity);
+
+    /**
+     * <p>
+     * Save entities, as {@link #saveAsync} for each, all in flight at once.
+     * </P>
+     *
+     * @param entities Not null
+     * @param <S>      The entity type
+     * @return The entities saved, in the order given
+     */
+    <S extends T> CompletableFuture<List<S>> saveAllAsync(Iterable<S> entities);
+
+    /**
+     * <p>
+     * Delete an entity by its id, using {@code IMap.removeAsync}.
+     * </P>
+     *
+     * @param id Not null
+     * @return Completes when the entity is removed
+     */
+    CompletableFuture<Void> deleteByIdAsync(ID id);
+
+    /**
+     * <p>
+     * Delete an entity, using {@code IMap.removeAsync} with its id.
+     * </P>
+     *
+     * @param entity Not null
+     * @return Completes when the entity is removed
+     */
+    CompletableFuture<Void> deleteAsync(T entity);
+
+}
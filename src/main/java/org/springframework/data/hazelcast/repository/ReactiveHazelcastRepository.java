@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ * Reactive counterpart of {@link HazelcastRepository}, for repositories found by
+ * {@link org.springframework.data.hazelcast.repository.config.EnableReactiveHazelcastRepositories
+ * &#64;EnableReactiveHazelcastRepositories}. Needs Project Reactor on the classpath.
+ * </P>
+ * <p>
+ * Operations by id use the asynchronous {@code IMap} methods, so no thread waits for them. Query methods returning
+ * {@code Flux} fetch their matches a partition at a time, as they are requested.
+ * </P>
+ *
+ * @param <T>  The type of the domain value class
+ * @param <ID> The type of the domain key class
+ * @author Neil Stevenson
+ */
+@NoRepositoryBean
+public interface ReactiveHazelcastRepository<T extends Serializable, ID extends Serializable>
+        extends ReactiveCrudRepository<T, ID> {
+}
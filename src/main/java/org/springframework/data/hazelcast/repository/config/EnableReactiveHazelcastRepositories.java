@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.config;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.hazelcast.repository.query.HazelcastQueryCreator;
+import org.springframework.data.hazelcast.repository.support.ReactiveHazelcastRepositoryFactoryBean;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.repository.config.QueryCreatorType;
+import org.springframework.data.repository.config.DefaultRepositoryBaseClass;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to activate reactive Hazelcast repositories, those extending
+ * {@link org.springframework.data.repository.reactive.ReactiveCrudRepository ReactiveCrudRepository} such as
+ * {@link org.springframework.data.hazelcast.repository.ReactiveHazelcastRepository ReactiveHazelcastRepository}.
+ * Other repositories in the packages scanned are left to {@link EnableHazelcastRepositories}, which can be used
+ * alongside. If no base package is configured through either {@link #value()}, {@link #basePackages()} or
+ * {@link #basePackageClasses()} it will trigger scanning of the package of annotated class.
+ *
+ * @author Neil Stevenson
+ */
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Import(ReactiveHazelcastRepositoriesRegistrar.class)
+@QueryCreatorType(HazelcastQueryCreator.class)
+public @interface EnableReactiveHazelcastRepositories {
+
+    /**
+     * Alias for the {@link #basePackages()} attribute. Allows for more concise annotation declarations e.g.:
+     * {@code @EnableReactiveHazelcastRepositories("org.my.pkg")} instead of {@code @EnableReactiveHazelcastRepositories(basePackages="org.my.pkg")}.
+     */
+    String[] value() default {};
+
+    /**
+     * Base packages to scan for annotated components. {@link #value()} is an alias for (and mutually exclusive with) this
+     * attribute. Use {@link #basePackageClasses()} for a type-safe alternative to String-based package names.
+     */
+    String[] basePackages() default {};
+
+    /**
+     * Type-safe alternative to {@link #basePackages()} for specifying the packages to scan for annotated components. The
+     * package of each class specified will be scanned. Consider creating a special no-op marker class or interface in
+     * each package that serves no purpose other than being referenced by this attribute.
+     */
+    Class<?>[] basePackageClasses() default {};
+
+    /**
+     * Specifies which types are not eligible for component scanning.
+     */
+    Filter[] excludeFilters() default {};
+
+    /**
+     * Specifies which types are eligible for component scanning. Further narrows the set of candidate components from
+     * everything in {@link #basePackages()} to everything in the base packages that matches the given filter or filters.
+     */
+    Filter[] includeFilters() default {};
+
+    /**
+     * Returns the postfix to be used when looking up custom repository implementations. Defaults to {@literal Impl}. So
+     * for a repository named {@code PersonRepository} the corresponding implementation class will be looked up scanning
+     * for {@code PersonRepositoryImpl}.
+     *
+     * @return
+     */
+    String repositoryImplementationPostfix() default "Impl";
+
+    /**
+     * Configures the location of where to find the Spring Data named queries properties file.
+     *
+     * @return
+     */
+    String namedQueriesLocation() default "";
+
+    /**
+     * Returns the key of the {@link QueryLookupStrategy} to be used for lookup queries for query methods. Defaults to
+     * {@link Key#CREATE_IF_NOT_FOUND}.
+     *
+     * @return
+     */
+    Key queryLookupStrategy() default Key.CREATE_IF_NOT_FOUND;
+
+    /**
+     * Returns the {@link FactoryBean} class to be used for each repository instance. Defaults to
+     * {@link ReactiveHazelcastRepositoryFactoryBean}.
+     *
+     * @return
+     */
+    Class<?> repositoryFactoryBeanClass() default ReactiveHazelcastRepositoryFactoryBean.class;
+
+    /**
+     * Allow custom base classes, for generic behavior shared amongst selected
+     * repositories.
+     *
+     * @return
+     */
+    Class<?> repositoryBaseClass() default DefaultRepositoryBaseClass.class;
+
+    /**
+     * Configures the name of the {@link KeyValueOperations} bean to be used with the repositories detected.
+     *
+     * @return
+     */
+    String keyValueTemplateRef() default "keyValueTemplate";
+
+    /**
+     * Configures whether nested repository-interfaces (e.g. defined as inner classes) should be discovered by the
+     * repositories infrastructure.
+     */
+    boolean considerNestedRepositories() default false;
+}
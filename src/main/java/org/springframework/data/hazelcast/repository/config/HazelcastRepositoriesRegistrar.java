@@ -18,6 +18,7 @@ package org.springframework.data.hazelcast.repository.config;
 import org.springframework.data.keyvalue.repository.config.KeyValueRepositoryConfigurationExtension;
 import org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+import org.springframework.data.repository.core.RepositoryMetadata;
 
 import java.lang.annotation.Annotation;
 
@@ -53,7 +54,7 @@ class HazelcastRepositoriesRegistrar extends RepositoryBeanDefinitionRegistrarSu
      *
      * @author Oliver Gierke
      */
-    private static class HazelcastRepositoryConfigurationExtension extends KeyValueRepositoryConfigurationExtension {
+    static class HazelcastRepositoryConfigurationExtension extends KeyValueRepositoryConfigurationExtension {
 
         /*
          * (non-Javadoc)
@@ -84,5 +85,13 @@ class HazelcastRepositoriesRegistrar extends RepositoryBeanDefinitionRegistrarSu
         protected String getDefaultKeyValueTemplateRef() {
             return "keyValueTemplate";
         }
+
+        /*
+         * Reactive repositories are left to EnableReactiveHazelcastRepositories, even in the same packages.
+         */
+        @Override
+        protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+            return !metadata.isReactiveRepository();
+        }
     }
 }
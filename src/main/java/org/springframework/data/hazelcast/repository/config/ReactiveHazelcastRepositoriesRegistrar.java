@@ -0,0 +1,74 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.config;
+
+import org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Registrar to point the infrastructure to inspect {@link EnableReactiveHazelcastRepositories}.
+ *
+ * @author Neil Stevenson
+ */
+class ReactiveHazelcastRepositoriesRegistrar extends RepositoryBeanDefinitionRegistrarSupport {
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport#getAnnotation()
+     */
+    @Override
+    protected Class<? extends Annotation> getAnnotation() {
+        return EnableReactiveHazelcastRepositories.class;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport#getExtension()
+     */
+    @Override
+    protected RepositoryConfigurationExtension getExtension() {
+        return new ReactiveHazelcastRepositoryConfigurationExtension();
+    }
+
+    /**
+     * Reactive Hazelcast {@link RepositoryConfigurationExtension}, the counterpart of the one for
+     * {@link EnableHazelcastRepositories}.
+     */
+    private static class ReactiveHazelcastRepositoryConfigurationExtension
+            extends HazelcastRepositoriesRegistrar.HazelcastRepositoryConfigurationExtension {
+
+        /*
+         * (non-Javadoc)
+         * @see org.springframework.data.keyvalue.repository.config.KeyValueRepositoryConfigurationExtension
+         *                          #getModuleName()
+         */
+        @Override
+        public String getModuleName() {
+            return "Reactive Hazelcast";
+        }
+
+        /*
+         * Only reactive repositories, the others are left to EnableHazelcastRepositories.
+         */
+        @Override
+        protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+            return metadata.isReactiveRepository();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * An aggregate of one property over the matching domain objects, parsed from a query method name such as
+ * "{@code sumRuntimeByYear}" or "{@code maxBudgetByGenre}". The function is one of {@code sum}, {@code avg},
+ * {@code min} or {@code max}, the property follows it, and the conditions after "{@code By}", if any, are those of a
+ * derived "{@code findBy}" query.
+ * </P>
+ * <p>
+ * The aggregate is computed by a Hazelcast {@link Aggregator} on the members that own the data, so only the result is
+ * sent back. As in SQL, domain objects where the property is {@code null} are left out, and {@code avg}, {@code min}
+ * and {@code max} are {@code null} if nothing matches.
+ * </P>
+ * <p>
+ * A name ending "{@code GroupBy}" and a property, such as "{@code avgRatingByGenreGroupByYear}" or
+ * "{@code countGroupByGenre}", computes the aggregate for each value of that property instead, returning a
+ * {@code Map} from the value to its aggregate. {@code count} is only for grouping, and needs no property to
+ * aggregate. The members aggregate by group with a {@link HazelcastGroupingAggregator}.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public final class Aggregation {
+
+    private static final Pattern METHOD_NAME = Pattern.compile("^(sum|avg|min|max)(\\p{Lu}.*?)(?:By(\\p{Lu}.*))?$");
+    private static final Pattern GROUPED_METHOD_NAME = Pattern.compile(
+            "^(count|sum|avg|min|max)(\\p{Lu}.*?)??(?:By(\\p{Lu}.*?))??GroupBy(\\p{Lu}.*)$");
+
+    /**
+     * <p>
+     * The aggregate functions that can start a method name.
+     * </P>
+     */
+    public enum Function {
+        COUNT, SUM, AVG, MIN, MAX
+    }
+
+    /* How the values of the property are added, each needs a different aggregator.
+     */
+    enum Operand {
+        FIXED_POINT, FLOATING_POINT, BIG_DECIMAL, BIG_INTEGER;
+
+        static Operand of(Class<?> type) {
+            if (type == BigDecimal.class) {
+                return BIG_DECIMAL;
+            }
+            if (type == BigInteger.class) {
+                return BIG_INTEGER;
+            }
+            if (type == Double.class || type == Float.class) {
+                return FLOATING_POINT;
+            }
+            return FIXED_POINT;
+        }
+    }
+
+    private final Function function;
+    private final String attribute;
+    private final Operand operand;
+    private final String criteria;
+    private final String groupAttribute;
+
+    private Aggregation(Function function, PropertyPath property, String criteria, PropertyPath groupProperty) {
+        this.function = function;
+        this.attribute = (property == null ? null : property.toDotPath());
+        this.operand = (property == null ? Operand.FIXED_POINT
+                : Operand.of(ClassUtils.resolvePrimitiveIfNecessary(property.getLeafProperty().getType())));
+        this.criteria = criteria;
+        this.groupAttribute = (groupProperty == null ? null : groupProperty.toDotPath());
+    }
+
+    /**
+     * @param methodName Query method name
+     * @param domainType The repository's domain class, which must have the property
+     * @return {@code null} if the method name does not start with an aggregate function
+     */
+    public static Aggregation parse(String methodName, Class<?> domainType) {
+        Assert.notNull(methodName, "Method name must not be 'null'.");
+
+        Matcher matcher = GROUPED_METHOD_NAME.matcher(methodName);
+        if (matcher.matches()) {
+            Function function = Function.valueOf(matcher.group(1).toUpperCase(Locale.ROOT));
+            if (matcher.group(2) == null && function != Function.COUNT) {
+                throw new IllegalArgumentException(String.format("No property to %s in '%s'.",
+                        matcher.group(1), methodName));
+            }
+            PropertyPath property = (matcher.group(2) == null ? null : PropertyPath.from(matcher.group(2), domainType));
+            PropertyPath groupProperty = PropertyPath.from(matcher.group(4), domainType);
+            return new Aggregation(function, property, matcher.group(3), groupProperty);
+        }
+
+        matcher = METHOD_NAME.matcher(methodName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        Function function = Function.valueOf(matcher.group(1).toUpperCase(Locale.ROOT));
+        PropertyPath property = PropertyPath.from(matcher.group(2), domainType);
+        return new Aggregation(function, property, matcher.group(3), null);
+    }
+
+    public Function getFunction() {
+        return this.function;
+    }
+
+    /**
+     * @return Property aggregated, a dotted path for a nested property, {@code null} to count
+     */
+    public String getAttribute() {
+        return this.attribute;
+    }
+
+    /**
+     * @return Property grouped on, {@code null} if not grouped
+     */
+    public String getGroupAttribute() {
+        return this.groupAttribute;
+    }
+
+    /**
+     * <p>
+     * The method name of the equivalent "{@code findBy}" query, for the conditions to be parsed as usual.
+     * </P>
+     *
+     * @return A name with the same conditions, none if the method name has no "{@code By}"
+     */
+    public String getPartTreeName() {
+        return "findBy" + (this.criteria == null ? "" : this.criteria);
+    }
+
+    /**
+     * @return Computes the aggregate from the matching entries, on the members
+     */
+    public Aggregator<Entry<Object, Object>, ?> toAggregator() {
+        return toAggregator(HazelcastDataSerializableFactory.isIdentified());
+    }
+
+    /**
+     * @param identified {@code true} for a grouping aggregator that is
+     *                   {@link com.hazelcast.nio.serialization.IdentifiedDataSerializable IdentifiedDataSerializable}
+     * @return Computes the aggregate from the matching entries, on the members
+     */
+    Aggregator<Entry<Object, Object>, ?> toAggregator(boolean identified) {
+        if (this.groupAttribute != null) {
+            if (identified) {
+                return new HazelcastIdentifiedGroupingAggregator(this.groupAttribute, this.function, this.attribute,
+                        this.operand);
+            }
+            return new HazelcastGroupingAggregator(this.groupAttribute, this.function, this.attribute, this.operand);
+        }
+        return aggregator(this.function, this.attribute, this.operand);
+    }
+
+    static Aggregator<Entry<Object, Object>, ?> aggregator(Function function, String attribute, Operand operand) {
+        switch (function) {
+            case COUNT:
+                return attribute == null ? Aggregators.count() : Aggregators.count(attribute);
+            case SUM:
+                switch (operand) {
+                    case BIG_DECIMAL:
+                        return Aggregators.bigDecimalSum(attribute);
+                    case BIG_INTEGER:
+                        return Aggregators.bigIntegerSum(attribute);
+                    case FLOATING_POINT:
+                        return Aggregators.floatingPointSum(attribute);
+                    default:
+                        return Aggregators.fixedPointSum(attribute);
+                }
+            case AVG:
+                switch (operand) {
+                    case BIG_DECIMAL:
+                        return Aggregators.bigDecimalAvg(attribute);
+                    case BIG_INTEGER:
+                        return Aggregators.bigIntegerAvg(attribute);
+                    default:
+                        return Aggregators.numberAvg(attribute);
+                }
+            case MIN:
+                return Aggregators.comparableMin(attribute);
+            case MAX:
+            default:
+                return Aggregators.comparableMax(attribute);
+        }
+    }
+
+    /**
+     * <p>
+     * Leave out domain objects where the property is {@code null}, the aggregators expect a value.
+     * </P>
+     *
+     * @param criteria Conditions of the query, {@code null} for everything
+     * @return Conditions for the aggregator
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Predicate<?, ?> restrict(Predicate<?, ?> criteria) {
+        if (this.attribute == null) {
+            return criteria;
+        }
+        Predicate notNull = Predicates.notEqual(this.attribute, null);
+        return criteria == null ? notNull : Predicates.and((Predicate) criteria, notNull);
+    }
+
+    /**
+     * @param result     From the aggregator
+     * @param returnType Of the query method, or of the values of the {@code Map} it returns if grouped
+     * @return The result, numbers converted to the type returned
+     */
+    public Object convert(Object result, Class<?> returnType) {
+        if (this.groupAttribute == null || !(result instanceof Map)) {
+            return convertValue(result, returnType);
+        }
+        Map<Object, Object> converted = new LinkedHashMap<>();
+        ((Map<?, ?>) result).forEach((key, value) -> converted.put(key, convertValue(value, returnType)));
+        return converted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object convertValue(Object result, Class<?> returnType) {
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(returnType);
+        if (result instanceof Number && Number.class.isAssignableFrom(type) && !type.isInstance(result)) {
+            return NumberUtils.convertNumberToTargetClass((Number) result, (Class<Number>) type);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        String aggregate = this.function.name().toLowerCase(Locale.ROOT) + "(" + (this.attribute == null ? "*"
+                : this.attribute) + ")";
+        return this.groupAttribute == null ? aggregate : aggregate + " group by " + this.groupAttribute;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * <p>
+ * Compare entries on a sequence of properties, each deciding only when the ones before are equal.
+ * </P>
+ * <p>
+ * Does the same as Spring's {@code CompoundComparator}, but is {@link Serializable} as it is sent to every member
+ * within a {@link com.hazelcast.query.PagingPredicate PagingPredicate}. Instances do not change once created, so can be
+ * shared between queries. See {@link HazelcastIdentifiedCompoundComparator} for a more compact form.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class HazelcastCompoundComparator implements Comparator<Entry<?, ?>>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    HazelcastPropertyComparator[] comparators;
+
+    /**
+     * <p>
+     * For deserialization only.
+     * </P>
+     */
+    public HazelcastCompoundComparator() {
+    }
+
+    /**
+     * @param comparators In order of precedence, not empty
+     */
+    public HazelcastCompoundComparator(List<HazelcastPropertyComparator> comparators) {
+        Assert.notEmpty(comparators, "Comparators must not be empty.");
+        this.comparators = comparators.toArray(new HazelcastPropertyComparator[comparators.size()]);
+    }
+
+    @Override
+    public int compare(Entry<?, ?> o1, Entry<?, ?> o2) {
+        for (HazelcastPropertyComparator comparator : this.comparators) {
+            int result = comparator.compare(o1, o2);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof HazelcastCompoundComparator
+                && Arrays.equals(this.comparators, ((HazelcastCompoundComparator) obj).comparators);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.comparators);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.nio.serialization.DataSerializableFactory;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+/**
+ * <p>
+ * Creates the classes that Spring Data Hazelcast sends to members inside queries when they are to be serialized as
+ * {@link IdentifiedDataSerializable}, the sort comparator and the grouping aggregator.
+ * </P>
+ * <p>
+ * By default they are sent with Java serialization, which needs no configuration. Setting the system property
+ * {@value #IDENTIFIED_PROPERTY} to {@code true} switches to the more compact {@link IdentifiedDataSerializable} form.
+ * Every member and client must then register this factory under {@link #FACTORY_ID}:
+ * </P>
+ * <pre>
+ * config.getSerializationConfig().addDataSerializableFactory(HazelcastDataSerializableFactory.FACTORY_ID,
+ *         new HazelcastDataSerializableFactory());
+ * </pre>
+ * <p>
+ * The factory id is {@value #DEFAULT_FACTORY_ID} unless the system property {@value #FACTORY_ID_PROPERTY} sets
+ * another, should it clash with a factory of the application. Negative ids are left to Hazelcast's own modules.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class HazelcastDataSerializableFactory implements DataSerializableFactory {
+
+    /**
+     * System property to send comparators and aggregators as {@link IdentifiedDataSerializable}, {@code false} if
+     * not set.
+     */
+    public static final String IDENTIFIED_PROPERTY = "spring.data.hazelcast.serialization.identified";
+
+    /**
+     * System property to override the factory id, if it clashes with another.
+     */
+    public static final String FACTORY_ID_PROPERTY = "spring.data.hazelcast.serialization.factory.id";
+
+    /**
+     * Factory id used unless overridden, "SDAH" in ASCII to keep clear of the small ids applications tend to use.
+     */
+    public static final int DEFAULT_FACTORY_ID = 0x53444148;
+
+    /**
+     * The factory id to register this factory under, the same on members and clients.
+     */
+    public static final int FACTORY_ID = Integer.getInteger(FACTORY_ID_PROPERTY, DEFAULT_FACTORY_ID);
+
+    static final int COMPOUND_COMPARATOR = 1;
+    static final int GROUPING_AGGREGATOR = 2;
+
+    /**
+     * @return {@code true} if {@value #IDENTIFIED_PROPERTY} is set to {@code true}
+     */
+    public static boolean isIdentified() {
+        return Boolean.getBoolean(IDENTIFIED_PROPERTY);
+    }
+
+    @Override
+    public IdentifiedDataSerializable create(int typeId) {
+        switch (typeId) {
+            case COMPOUND_COMPARATOR:
+                return new HazelcastIdentifiedCompoundComparator();
+            case GROUPING_AGGREGATOR:
+                return new HazelcastIdentifiedGroupingAggregator();
+            default:
+                return null;
+        }
+    }
+}
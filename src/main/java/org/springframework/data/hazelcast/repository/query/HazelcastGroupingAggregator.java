@@ -0,0 +1,141 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.query.impl.Extractable;
+import org.springframework.data.hazelcast.repository.query.Aggregation.Function;
+import org.springframework.data.hazelcast.repository.query.Aggregation.Operand;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * <p>
+ * Aggregate entries separately for each value of a grouping attribute, as for SQL's {@code GROUP BY}.
+ * </P>
+ * <p>
+ * Each member keeps an aggregator from {@link com.hazelcast.aggregation.Aggregators Aggregators} for each group it
+ * sees, and the partial results are combined group by group. The result maps each value of the grouping attribute,
+ * including {@code null}, to the aggregate for that group. A collection-valued grouping attribute is not supported.
+ * </P>
+ * <p>
+ * Sent to every member and its partial results back with Java serialization, or as
+ * {@link HazelcastIdentifiedGroupingAggregator} when that is enabled.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class HazelcastGroupingAggregator extends Aggregator<Entry<Object, Object>, Map<Object, Object>> {
+    private static final long serialVersionUID = 1L;
+
+    private String groupAttribute;
+    private Function function;
+    private String attribute;
+    private Operand operand;
+    private Map<Object, Aggregator<Entry<Object, Object>, ?>> groups = new HashMap<>();
+
+    /**
+     * <p>
+     * For deserialization only.
+     * </P>
+     */
+    public HazelcastGroupingAggregator() {
+    }
+
+    HazelcastGroupingAggregator(String groupAttribute, Function function, String attribute, Operand operand) {
+        Assert.hasText(groupAttribute, "Group attribute must not be empty.");
+        Assert.notNull(function, "Function must not be 'null'.");
+        Assert.notNull(operand, "Operand must not be 'null'.");
+        this.groupAttribute = groupAttribute;
+        this.function = function;
+        this.attribute = attribute;
+        this.operand = operand;
+    }
+
+    @Override
+    public void accumulate(Entry<Object, Object> entry) {
+        if (!(entry instanceof Extractable)) {
+            throw new IllegalArgumentException(String.format("Can't extract %s from %s", this.groupAttribute, entry));
+        }
+        Object group = ((Extractable) entry).getAttributeValue(this.groupAttribute);
+        this.groups.computeIfAbsent(group, key -> Aggregation.aggregator(this.function, this.attribute, this.operand))
+                .accumulate(entry);
+    }
+
+    @Override
+    public void onAccumulationFinished() {
+        this.groups.values().forEach(Aggregator::onAccumulationFinished);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public void combine(Aggregator aggregator) {
+        HazelcastGroupingAggregator other = (HazelcastGroupingAggregator) aggregator;
+        other.groups.forEach((group, partial) -> {
+            Aggregator<Entry<Object, Object>, ?> existing = this.groups.get(group);
+            if (existing == null) {
+                this.groups.put(group, partial);
+            } else {
+                existing.combine(partial);
+            }
+        });
+    }
+
+    @Override
+    public void onCombinationFinished() {
+        this.groups.values().forEach(Aggregator::onCombinationFinished);
+    }
+
+    @Override
+    public Map<Object, Object> aggregate() {
+        Map<Object, Object> result = new LinkedHashMap<>();
+        this.groups.forEach((group, aggregator) -> result.put(group, aggregator.aggregate()));
+        return result;
+    }
+
+    void writeData(ObjectDataOutput out) throws IOException {
+        out.writeUTF(this.groupAttribute);
+        out.writeByte(this.function.ordinal());
+        out.writeUTF(this.attribute);
+        out.writeByte(this.operand.ordinal());
+        out.writeInt(this.groups.size());
+        for (Entry<Object, Aggregator<Entry<Object, Object>, ?>> group : this.groups.entrySet()) {
+            out.writeObject(group.getKey());
+            out.writeObject(group.getValue());
+        }
+    }
+
+    void readData(ObjectDataInput in) throws IOException {
+        this.groupAttribute = in.readUTF();
+        this.function = Function.values()[in.readByte()];
+        this.attribute = in.readUTF();
+        this.operand = Operand.values()[in.readByte()];
+        int size = in.readInt();
+        this.groups = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Object group = in.readObject();
+            Aggregator<Entry<Object, Object>, ?> aggregator = in.readObject();
+            this.groups.put(group, aggregator);
+        }
+    }
+}
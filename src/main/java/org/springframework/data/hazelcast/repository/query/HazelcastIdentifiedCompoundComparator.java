@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <p>
+ * A {@link HazelcastCompoundComparator} written as {@link IdentifiedDataSerializable}, used when
+ * {@link HazelcastDataSerializableFactory#IDENTIFIED_PROPERTY} is set. Every member and client must then have
+ * {@link HazelcastDataSerializableFactory} registered.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class HazelcastIdentifiedCompoundComparator extends HazelcastCompoundComparator
+        implements IdentifiedDataSerializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * <p>
+     * For deserialization only.
+     * </P>
+     */
+    public HazelcastIdentifiedCompoundComparator() {
+    }
+
+    /**
+     * @param comparators In order of precedence, not empty
+     */
+    public HazelcastIdentifiedCompoundComparator(List<HazelcastPropertyComparator> comparators) {
+        super(comparators);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return HazelcastDataSerializableFactory.FACTORY_ID;
+    }
+
+    @Override
+    public int getId() {
+        return HazelcastDataSerializableFactory.COMPOUND_COMPARATOR;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(this.comparators.length);
+        for (HazelcastPropertyComparator comparator : this.comparators) {
+            comparator.writeData(out);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        this.comparators = new HazelcastPropertyComparator[in.readInt()];
+        for (int i = 0; i < this.comparators.length; i++) {
+            this.comparators[i] = new HazelcastPropertyComparator();
+            this.comparators[i].readData(in);
+        }
+    }
+}
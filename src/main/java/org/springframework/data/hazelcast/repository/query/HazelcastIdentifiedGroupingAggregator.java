@@ -0,0 +1,71 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import org.springframework.data.hazelcast.repository.query.Aggregation.Function;
+import org.springframework.data.hazelcast.repository.query.Aggregation.Operand;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * A {@link HazelcastGroupingAggregator} written as {@link IdentifiedDataSerializable}, used when
+ * {@link HazelcastDataSerializableFactory#IDENTIFIED_PROPERTY} is set. Every member and client must then have
+ * {@link HazelcastDataSerializableFactory} registered.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class HazelcastIdentifiedGroupingAggregator extends HazelcastGroupingAggregator
+        implements IdentifiedDataSerializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * <p>
+     * For deserialization only.
+     * </P>
+     */
+    public HazelcastIdentifiedGroupingAggregator() {
+    }
+
+    HazelcastIdentifiedGroupingAggregator(String groupAttribute, Function function, String attribute,
+                                          Operand operand) {
+        super(groupAttribute, function, attribute, operand);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return HazelcastDataSerializableFactory.FACTORY_ID;
+    }
+
+    @Override
+    public int getId() {
+        return HazelcastDataSerializableFactory.GROUPING_AGGREGATOR;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        super.writeData(out);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        super.readData(in);
+    }
+}
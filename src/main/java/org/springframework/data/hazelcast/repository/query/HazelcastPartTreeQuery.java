@@ -15,15 +15,15 @@
  */
 package org.springframework.data.hazelcast.repository.query;
 
-import org.springframework.data.domain.PageImpl;
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.SliceImpl;
-import org.springframework.data.keyvalue.core.IterableConverter;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.keyvalue.repository.query.KeyValuePartTreeQuery;
+import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
@@ -31,37 +31,50 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
-import org.springframework.data.util.StreamUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * <p>
  * There is one instance for each query method defined for a repository, providing a query from the bind parameters.
  * </P>
  * <p>
- * TODO The {@link #execute} method calls the {@link #prepareQuery} to bind the parameters to the query. This results in
- * Hazelcast's {@link com.hazelcast.query.PredicateBuilder PredicateBuilder} being called for each query execution. A
- * more efficient mechanism would be to some sort of templating that would allow the parameters to be instantiated into
- * the output of the predicate builder rather than the input.
+ * The method name is parsed once, when the repository is created, into a plan that does not change afterwards: the
+ * {@link PartTree}, whether the query counts, deletes or finds, and how the method's arguments map to the parts of the
+ * tree. Each execution only binds its arguments, so instances are safe to share across threads.
  * </P>
  *
  * @author Neil Stevenson
  */
 public class HazelcastPartTreeQuery extends KeyValuePartTreeQuery {
 
+    /* A limit after "Distinct" is not a property, even if the match has to do without it.
+     */
+    private static final Pattern DISTINCT_PROPERTY = Pattern.compile(
+            "^\\p{Ll}+Distinct(?>(?:First|Top)\\d*)?(?!(?:(?:First|Top)\\d*)?By)(\\p{Lu}.*?)By");
+
     private final QueryMethod queryMethod;
-    private final KeyValueOperations keyValueOperations;
+    private final HazelcastQueryExecutor executor;
+
+    private final Aggregation aggregation;
+    private final PartTree tree;
+    private final Constructor<? extends AbstractQueryCreator<?, ?>> queryCreatorConstructor;
 
-    private boolean isCount;
-    private boolean isDelete;
-    private boolean isDistinct;
+    private final boolean isCount;
+    private final boolean isExists;
+    private final boolean isDelete;
+    private final boolean isDistinct;
+    private final String distinctAttribute;
 
-    private boolean isRearrangeKnown;
-    private boolean isRearrangeRequired;
-    private int[] rearrangeIndex;
+    private final boolean isRearrangeRequired;
+    private final int[] rearrangeIndex;
 
     /**
      * <p>
@@ -71,14 +84,30 @@ public class HazelcastPartTreeQuery extends KeyValuePartTreeQuery {
      * @param queryMethod               Method defined in {@code HazelcastRepository}
      * @param evaluationContextProvider Not used
      * @param keyValueOperations        Interface to Hazelcast
-     * @param queryCreator              Not used
+     * @param queryCreator              Turns the parsed method name and arguments into a query
      */
     public HazelcastPartTreeQuery(QueryMethod queryMethod, EvaluationContextProvider evaluationContextProvider, KeyValueOperations keyValueOperations, Class<? extends AbstractQueryCreator<?, ?>> queryCreator) {
         super(queryMethod, evaluationContextProvider, keyValueOperations, queryCreator);
         this.queryMethod = queryMethod;
-        this.keyValueOperations = keyValueOperations;
-
-        this.isRearrangeKnown = false;
+        this.executor = new HazelcastQueryExecutor(queryMethod, keyValueOperations);
+
+        Class<?> domainType = queryMethod.getEntityInformation().getJavaType();
+        this.aggregation = Aggregation.parse(queryMethod.getName(), domainType);
+        this.tree = new PartTree(this.aggregation == null ? queryMethod.getName() : this.aggregation.getPartTreeName(),
+                domainType);
+        this.queryCreatorConstructor = ClassUtils.getConstructorIfAvailable(queryCreator, PartTree.class,
+                ParameterAccessor.class);
+        Assert.notNull(this.queryCreatorConstructor, String.format(
+                "Query creator '%s' needs a (PartTree, ParameterAccessor) constructor.", queryCreator.getName()));
+
+        this.isCount = this.tree.isCountProjection();
+        this.isExists = this.tree.isExistsProjection();
+        this.isDelete = this.tree.isDelete();
+        this.isDistinct = this.tree.isDistinct();
+        this.distinctAttribute = this.isDistinct ? findDistinctAttribute(queryMethod.getName(), domainType) : null;
+
+        this.rearrangeIndex = this.prepareRearrange(this.tree, queryMethod.getParameters().getBindableParameters());
+        this.isRearrangeRequired = this.rearrangeIndex != null;
     }
 
     /**
@@ -86,7 +115,8 @@ public class HazelcastPartTreeQuery extends KeyValuePartTreeQuery {
      * Execute this query instance, using any invocation parameters.
      * </P>
      * <p>
-     * Expecting {@code findBy...()}, {@code countBy...()} or {@code deleteBy...()}
+     * Expecting {@code findBy...()}, {@code countBy...()}, {@code existsBy...()}, {@code deleteBy...()} or an {@link Aggregation} such as
+     * {@code sumAgeBy...()}
      * </P>
      *
      * @param parameters Any parameters
@@ -97,137 +127,53 @@ public class HazelcastPartTreeQuery extends KeyValuePartTreeQuery {
 
         KeyValueQuery<?> query = prepareQuery(parameters);
 
-        /* Queries return domain objects not projections. In Spring Data, domain objects
-         * include a unique @Id. So DISTINCT as a modifier is irrelevant ; throw exception
-         * rather than ignore to alert the user.
+        if (this.aggregation != null) {
+            return this.executor.executeAggregateQuery(query, this.aggregation);
+        }
+
+        /* In Spring Data, domain objects include a unique @Id, so are always distinct. Distinct
+         * values of a property named after DISTINCT are found by the members.
          */
-        if (this.isDistinct) {
-            String message = String.format("DISTINCT modifier in '%s' not applicable to Key-Value queries.", queryMethod.getName());
-            throw new UnsupportedOperationException(message);
+        if (this.distinctAttribute != null) {
+            return this.executor.executeDistinctQuery(query, this.distinctAttribute, this.isCount);
         }
 
         if (this.isCount) {
-            return this.keyValueOperations.count(query, queryMethod.getEntityInformation().getJavaType());
+            return this.executor.executeCountQuery(query);
         }
 
-        if (this.isDelete) {
-            return this.executeDeleteQuery(query, queryMethod);
+        if (this.isExists) {
+            return this.executor.executeExistsQuery(query);
         }
 
-        if (queryMethod.isPageQuery() || queryMethod.isSliceQuery()) {
-            return this.executePageSliceQuery(parameters, query, queryMethod);
+        if (this.isDelete) {
+            return this.executor.executeDeleteQuery(query);
         }
 
-        if (queryMethod.isCollectionQuery() || queryMethod.isQueryForEntity() || queryMethod.isStreamQuery()) {
-            return this.executeFindQuery(query, queryMethod);
+        Pageable pageRequest = null;
+        if (queryMethod.getParameters().hasPageableParameter()) {
+            pageRequest = (Pageable) parameters[queryMethod.getParameters().getPageableIndex()];
         }
 
-        String message = String.format("Query method '%s' not supported.", queryMethod.getName());
-        throw new UnsupportedOperationException(message);
+        return this.executor.execute(query, pageRequest);
     }
 
     /**
      * <p>
-     * Execute a "delete" query, not really a query more of an operation.
-     * </p>
-     * <p>
-     * <b>NOTE:</b> Delete is not a collection operation, the return value is a single object that
-     * was deleted.
-     * </p>
-     * <p>Although the <i>find</i> operation returns an iterator, the result set is either empty
-     * or has one domain object in it. If there are multiple possible matches it's random which
-     * one of the matches is deleted.
-     * </p>
+     * The property named after "{@code Distinct}", as in "{@code findDistinctLastnameByFirstname}", whose distinct
+     * values are wanted rather than domain objects.
+     * </P>
      *
-     * @param query       The query to run
-     * @param queryMethod Used here to find the type of object to match the query
-     * @return Query The individual entry deleted
+     * @param methodName Query method name
+     * @param domainType The repository's domain class
+     * @return A dotted path for a nested property, {@code null} if no property is named
      */
-    private Object executeDeleteQuery(final KeyValueQuery<?> query, final QueryMethod queryMethod) {
-
-        Iterable<?> resultSet = this.keyValueOperations.find(query, queryMethod.getEntityInformation().getJavaType());
-        Iterator<?> iterator = resultSet.iterator();
-
-        if (iterator.hasNext()) {
-            return this.keyValueOperations.delete(iterator.next());
-        } else {
+    static String findDistinctAttribute(String methodName, Class<?> domainType) {
+        Matcher matcher = DISTINCT_PROPERTY.matcher(methodName);
+        if (!matcher.find()) {
             return null;
         }
-    }
-
-    /**
-     * <p>
-     * Slices and pages are similar ways to iterate through the result set in blocks, mimicking a cursor. A
-     * {@link org.springframework.data.domain.Slice Slice} is a simpler concept, only requiring to know if further blocks
-     * of data are available. A {@link org.springframework.data.domain.Page Page} requires to know how many blocks of data
-     * are available in total.
-     * </p>
-     *
-     * @param parameters  For the query
-     * @param query       The query to run
-     * @param queryMethod Holds metadata about the query
-     * @return Query result
-     */
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private Object executePageSliceQuery(final Object[] parameters, final KeyValueQuery<?> query,
-                                         final QueryMethod queryMethod) {
-        long totalElements = -1;
-
-        int indexOfPageRequest = queryMethod.getParameters().getPageableIndex();
-        Pageable pageRequest = (Pageable) parameters[indexOfPageRequest];
-
-        /* TODO Eliminate count call for Slice, retrieve "rows+1" instead to determine if next page exists.
-         */
-        if (query.getCriteria() == null) {
-            totalElements = this.keyValueOperations.count(queryMethod.getEntityInformation().getJavaType());
-        } else {
-            totalElements = this.keyValueOperations.count(query, queryMethod.getEntityInformation().getJavaType());
-        }
-
-        int requiredRows = pageRequest.getPageSize();
-
-        query.setOffset(pageRequest.getOffset());
-        query.setRows(pageRequest.getPageSize());
-
-        Iterable<?> resultSet = this.keyValueOperations.find(query, queryMethod.getEntityInformation().getJavaType());
-        List<?> content = IterableConverter.toList(resultSet);
-
-        if (queryMethod.isPageQuery()) {
-            return new PageImpl(content, pageRequest, totalElements);
-        } else {
-            boolean hasNext = totalElements > (query.getOffset() + query.getRows());
-            if (content.size() > requiredRows) {
-                content = content.subList(0, requiredRows);
-            }
-            return new SliceImpl(content, pageRequest, hasNext);
-        }
-    }
-
-    /**
-     * <p>
-     * Execute a retrieval query. The query engine will return this in an iterator, which may need conversion to a single
-     * domain entity or a stream.
-     * </p>
-     *
-     * @param query       The query to run
-     * @param queryMethod Holds metadata about the query, is paging etc
-     * @return Query result
-     */
-    private Object executeFindQuery(final KeyValueQuery<?> query, final QueryMethod queryMethod) {
-
-        Iterable<?> resultSet = this.keyValueOperations.find(query, queryMethod.getEntityInformation().getJavaType());
-
-        if (!queryMethod.isCollectionQuery() && !queryMethod.isPageQuery() && !queryMethod.isSliceQuery()
-                && !queryMethod.isStreamQuery()) {
-            // Singleton result
-            return resultSet.iterator().hasNext() ? resultSet.iterator().next() : null;
-        }
-
-        if (queryMethod.isStreamQuery()) {
-            return StreamUtils.createStreamFromIterator(resultSet.iterator());
-        }
-
-        return resultSet;
+        return PropertyPath.from(matcher.group(1), domainType).toDotPath();
     }
 
     /**
@@ -261,15 +207,9 @@ public class HazelcastPartTreeQuery extends KeyValuePartTreeQuery {
      * </OL>
      *
      * @param originalParameters Possibly empty
-     * @param partTree           Query tree to traverse
      * @return Paremeters in correct order
      */
-    private ParametersParameterAccessor prepareAccessor(final Object[] originalParameters, final PartTree partTree) {
-
-        if (!this.isRearrangeKnown) {
-            this.prepareRearrange(partTree, this.queryMethod.getParameters().getBindableParameters());
-            this.isRearrangeKnown = true;
-        }
+    private ParametersParameterAccessor prepareAccessor(final Object[] originalParameters) {
 
         Object[] parameters = originalParameters;
         if (parameters != null && this.isRearrangeRequired) {
@@ -295,13 +235,13 @@ public class HazelcastPartTreeQuery extends KeyValuePartTreeQuery {
      *
      * @param partTree           Query parts
      * @param bindableParameters Parameters expected
+     * @return Argument position for each parameter of the tree, {@code null} if they are already in order
      */
     @SuppressWarnings("unchecked")
-    private void prepareRearrange(final PartTree partTree, final Parameters<?, ?> bindableParameters) {
+    private int[] prepareRearrange(final PartTree partTree, final Parameters<?, ?> bindableParameters) {
 
-        this.isRearrangeRequired = false;
         if (partTree == null || bindableParameters == null) {
-            return;
+            return null;
         }
 
         List<String> queryParams = new ArrayList<>();
@@ -321,21 +261,24 @@ public class HazelcastPartTreeQuery extends KeyValuePartTreeQuery {
             }
         }
 
-        this.rearrangeIndex = new int[queryParams.size()];
+        int[] index = new int[queryParams.size()];
+        boolean required = false;
 
         String[] paramsExpected = queryParams.toArray(new String[queryParams.size()]);
         String[] paramsProvided = methodParams.toArray(new String[methodParams.size()]);
 
-        for (int i = 0; i < this.rearrangeIndex.length; i++) {
-            this.rearrangeIndex[i] = i;
+        for (int i = 0; i < index.length; i++) {
+            index[i] = i;
 
             for (int j = 0; j < paramsProvided.length; j++) {
                 if (paramsProvided[j] != null && paramsProvided[j].equals(paramsExpected[i])) {
-                    this.rearrangeIndex[i] = j;
-                    this.isRearrangeRequired = true;
+                    index[i] = j;
+                    required = true;
                 }
             }
         }
+
+        return required ? index : null;
     }
 
     /**
@@ -348,23 +291,15 @@ public class HazelcastPartTreeQuery extends KeyValuePartTreeQuery {
      */
     @Override
     protected KeyValueQuery<?> prepareQuery(Object[] parameters) {
-        PartTree tree = null;
 
-        if (this.queryMethod.getParameters().getNumberOfParameters() > 0) {
-            tree = new PartTree(getQueryMethod().getName(), getQueryMethod().getEntityInformation().getJavaType());
-            this.isCount = tree.isCountProjection();
-            this.isDelete = tree.isDelete();
-            this.isDistinct = tree.isDistinct();
-        } else {
-            this.isCount = false;
-            this.isDelete = false;
-            this.isDistinct = false;
-        }
-
-        ParametersParameterAccessor accessor = this.prepareAccessor(parameters, tree);
+        ParametersParameterAccessor accessor = this.prepareAccessor(parameters);
 
         KeyValueQuery<?> query = createQuery(accessor);
 
+        if (accessor.getPageable() instanceof KeysetPageRequest) {
+            query = ((KeysetPageRequest) accessor.getPageable()).restrict(query);
+        }
+
         if (accessor.getPageable() != null && accessor.getPageable().isPaged()) {
             query.setOffset(accessor.getPageable().getOffset());
             query.setRows(accessor.getPageable().getPageSize());
@@ -380,4 +315,20 @@ public class HazelcastPartTreeQuery extends KeyValuePartTreeQuery {
         return query;
     }
 
+    /**
+     * <p>
+     * Create the query from the method name parsed at construction and the bind parameters.
+     * </P>
+     *
+     * @param accessor Bind parameters
+     * @return A new query
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public KeyValueQuery<?> createQuery(ParameterAccessor accessor) {
+        AbstractQueryCreator<KeyValueQuery<?>, ?> queryCreator = (AbstractQueryCreator<KeyValueQuery<?>, ?>) BeanUtils
+                .instantiateClass(this.queryCreatorConstructor, this.tree, accessor);
+        return queryCreator.createQuery();
+    }
+
 }
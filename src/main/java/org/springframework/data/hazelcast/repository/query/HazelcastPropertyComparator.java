@@ -15,17 +15,36 @@
  */
 package org.springframework.data.hazelcast.repository.query;
 
-import com.hazelcast.query.impl.getters.ReflectionHelper;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import org.springframework.data.domain.Sort.NullHandling;
+import org.springframework.util.Assert;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Comparator;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * <p>
  * Implement a limited form of custom comparison between entries. The fields used for the comparison and the
  * ascending/descending can be specified at run time.
  * </P>
+ * <p>
+ * The field is read through an extractor compiled once for the class of the entries, see {@link PropertyExtractors},
+ * so may be a dotted path into embedded objects. The comparator remembers the last class it saw, so sorting entries of
+ * one class costs a single check per read.
+ * </P>
+ * <p>
+ * Strings can be compared ignoring case, and {@code null} values can be placed first or last whatever the direction.
+ * By default, {@code null} values come last when ascending and first when descending.
+ * </P>
+ * <p>
+ * Sent to the members with Java serialization, or written by {@link HazelcastIdentifiedCompoundComparator} when that
+ * is enabled.
+ * </P>
  *
  * @author Neil Stevenson
  */
@@ -34,15 +53,41 @@ public class HazelcastPropertyComparator implements Comparator<Entry<?, ?>>, Ser
 
     private String attributeName;
     private int direction;
+    private boolean ignoreCase;
+    private NullHandling nullHandling = NullHandling.NATIVE;
+
+    private transient volatile CachedExtractor cachedExtractor;
+
+    /**
+     * <p>
+     * For deserialization only.
+     * </P>
+     */
+    public HazelcastPropertyComparator() {
+    }
 
     public HazelcastPropertyComparator(String attributeName, boolean ascending) {
+        this(attributeName, ascending, false, NullHandling.NATIVE);
+    }
+
+    /**
+     * @param attributeName A property, or dotted path to one
+     * @param ascending     Direction
+     * @param ignoreCase    If {@code true}, compare strings ignoring case
+     * @param nullHandling  Where {@code null} values go, not null
+     */
+    public HazelcastPropertyComparator(String attributeName, boolean ascending, boolean ignoreCase,
+                                       NullHandling nullHandling) {
+        Assert.notNull(nullHandling, "NullHandling must not be 'null'.");
         this.attributeName = attributeName;
         this.direction = (ascending ? 1 : -1);
+        this.ignoreCase = ignoreCase;
+        this.nullHandling = nullHandling;
     }
 
     /**
      * <p>
-     * Use Hazelcast's {@code ReflectionHelper} to extract a field in an entry, and use this is in the comparison.
+     * Extract a field in an entry, and use this is in the comparison.
      * </P>
      *
      * @param o1 An entry in a map
@@ -53,14 +98,14 @@ public class HazelcastPropertyComparator implements Comparator<Entry<?, ?>>, Ser
     public int compare(Entry<?, ?> o1, Entry<?, ?> o2) {
 
         try {
-            Object o1Field = ReflectionHelper.extractValue(o1.getValue(), this.attributeName);
-            Object o2Field = ReflectionHelper.extractValue(o2.getValue(), this.attributeName);
+            Object o1Field = this.extract(o1.getValue());
+            Object o2Field = this.extract(o2.getValue());
 
-            if (o1Field == null) {
-                return this.direction;
+            if (o1Field == null || o2Field == null) {
+                return this.compareNulls(o1Field, o2Field);
             }
-            if (o2Field == null) {
-                return -1 * this.direction;
+            if (this.ignoreCase && o1Field instanceof String && o2Field instanceof String) {
+                return this.direction * String.CASE_INSENSITIVE_ORDER.compare((String) o1Field, (String) o2Field);
             }
             if (o1Field instanceof Comparable && o2Field instanceof Comparable) {
                 return this.direction * ((Comparable) o1Field).compareTo((Comparable) o2Field);
@@ -73,4 +118,82 @@ public class HazelcastPropertyComparator implements Comparator<Entry<?, ?>>, Ser
         return 0;
     }
 
+    private int compareNulls(Object o1Field, Object o2Field) {
+        if (o1Field == o2Field) {
+            return 0;
+        }
+        int nullFirst;
+        switch (this.nullHandling) {
+            case NULLS_FIRST:
+                nullFirst = -1;
+                break;
+            case NULLS_LAST:
+                nullFirst = 1;
+                break;
+            case NATIVE:
+            default:
+                nullFirst = this.direction;
+                break;
+        }
+        return o1Field == null ? nullFirst : -1 * nullFirst;
+    }
+
+    void writeData(ObjectDataOutput out) throws IOException {
+        out.writeUTF(this.attributeName);
+        out.writeInt(this.direction);
+        out.writeBoolean(this.ignoreCase);
+        out.writeByte(this.nullHandling.ordinal());
+    }
+
+    void readData(ObjectDataInput in) throws IOException {
+        this.attributeName = in.readUTF();
+        this.direction = in.readInt();
+        this.ignoreCase = in.readBoolean();
+        this.nullHandling = NullHandling.values()[in.readByte()];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof HazelcastPropertyComparator)) {
+            return false;
+        }
+        HazelcastPropertyComparator that = (HazelcastPropertyComparator) obj;
+        return this.direction == that.direction && this.ignoreCase == that.ignoreCase
+                && this.nullHandling == that.nullHandling && Objects.equals(this.attributeName, that.attributeName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.attributeName, this.direction, this.ignoreCase, this.nullHandling);
+    }
+
+    private Object extract(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        CachedExtractor cached = this.cachedExtractor;
+        if (cached == null || cached.type != value.getClass()) {
+            cached = new CachedExtractor(value.getClass(),
+                    PropertyExtractors.forProperty(value.getClass(), this.attributeName));
+            this.cachedExtractor = cached;
+        }
+        return cached.extractor.apply(value);
+    }
+
+    /**
+     * <p>
+     * The extractor for one class, replaced together so that concurrent comparisons never mix them up.
+     * </P>
+     */
+    private static final class CachedExtractor {
+        private final Class<?> type;
+        private final Function<Object, Object> extractor;
+
+        CachedExtractor(Class<?> type, Function<Object, Object> extractor) {
+            this.type = type;
+            this.extractor = extractor;
+        }
+    }
+
 }
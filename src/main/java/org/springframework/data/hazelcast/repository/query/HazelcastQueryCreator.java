@@ -19,6 +19,7 @@ import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.hazelcast.Indexed;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.mapping.PropertyPath;
@@ -29,6 +30,7 @@ import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.Assert;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 
@@ -39,7 +41,15 @@ import static org.springframework.data.repository.query.parser.Part.Type.NOT_LIK
  * @author Christoph Strobl
  * @author Neil Stevenson
  */
-public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Predicate<?, ?>>, Predicate<?, ?>> {
+public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Predicate<?, ?>>, QueryTerm> {
+
+    /* Relative costs of evaluating a term, cheaper terms are evaluated first.
+     */
+    private static final int COST_INDEXED = 0;
+    private static final int COST_EQUALITY = 1;
+    private static final int COST_COMPARISON = 2;
+    private static final int COST_PATTERN = 3;
+
     private final int limit;
 
     /**
@@ -82,7 +92,7 @@ public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
      */
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
-    protected Predicate<?, ?> create(Part part, Iterator<Object> iterator) {
+    protected QueryTerm create(Part part, Iterator<Object> iterator) {
         return this.from(part, (Iterator<Comparable<?>>) (Iterator) iterator);
     }
 
@@ -93,9 +103,9 @@ public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
      */
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
-    protected Predicate<?, ?> and(Part part, Predicate<?, ?> base, Iterator<Object> iterator) {
-        Predicate<?, ?> criteria = this.from(part, (Iterator<Comparable<?>>) (Iterator) iterator);
-        return Predicates.and(base, criteria);
+    protected QueryTerm and(Part part, QueryTerm base, Iterator<Object> iterator) {
+        QueryTerm criteria = this.from(part, (Iterator<Comparable<?>>) (Iterator) iterator);
+        return QueryTerm.and(base, criteria);
     }
 
     /*
@@ -104,8 +114,8 @@ public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
      *                                                       #or(java.lang.Object, java.lang.Object)
      */
     @Override
-    protected Predicate<?, ?> or(Predicate<?, ?> base, Predicate<?, ?> criteria) {
-        return Predicates.or(base, criteria);
+    protected QueryTerm or(QueryTerm base, QueryTerm criteria) {
+        return QueryTerm.or(base, criteria);
     }
 
     /*
@@ -114,8 +124,9 @@ public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
      *                                                       #complete(java.lang.Object, org.springframework.data.domain.Sort)
      */
     @Override
-    protected KeyValueQuery<Predicate<?, ?>> complete(Predicate<?, ?> criteria, Sort sort) {
+    protected KeyValueQuery<Predicate<?, ?>> complete(QueryTerm term, Sort sort) {
 
+        Predicate<?, ?> criteria = this.optimize(term);
         KeyValueQuery<Predicate<?, ?>> keyValueQuery;
 
         if (this.limit == 0) {
@@ -130,6 +141,22 @@ public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
         return keyValueQuery;
     }
 
+    /**
+     * <p>
+     * Simplify the conditions from the method name before they become a predicate, see {@link QueryTermOptimizer}.
+     * </P>
+     *
+     * @param term Conditions from the method name, {@code null} if none
+     * @return The predicate, {@code null} if it matches everything
+     */
+    private Predicate<?, ?> optimize(QueryTerm term) {
+        if (term == null) {
+            return null;
+        }
+        QueryTerm optimized = QueryTermOptimizer.optimize(term);
+        return optimized == QueryTerm.TRUE ? null : optimized.toPredicate();
+    }
+
     /* Map query types to Hazelcast predicates. Use multiple methods to separate into
      * logical groups, easing testing and for possible recursion.
      *
@@ -137,10 +164,11 @@ public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
      * the former being embedded in the chain.
      *
      */
-    private Predicate<?, ?> from(Part part, Iterator<Comparable<?>> iterator) {
+    private QueryTerm from(Part part, Iterator<Comparable<?>> iterator) {
         String property = part.getProperty().toDotPath();
         Type type = part.getType();
         boolean ignoreCase = ifIgnoreCase(part);
+        Indexed indexed = findIndexed(part);
 
         switch (type) {
             case AFTER:
@@ -150,28 +178,41 @@ public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
             case LESS_THAN:
             case LESS_THAN_EQUAL:
             case BETWEEN:
-                return fromInequalityVariant(type, property, iterator);
+                return QueryTerm.of(fromInequalityVariant(type, property, iterator),
+                        indexed != null && indexed.ordered() ? COST_INDEXED : COST_COMPARISON);
             case IS_NULL:
             case IS_NOT_NULL:
-                return fromNullVariant(type, property);
+                return QueryTerm.of(fromNullVariant(type, property), COST_COMPARISON);
             case IN:
             case NOT_IN:
-                return fromCollectionVariant(type, property, iterator);
-            case CONTAINING:
-            case NOT_CONTAINING:
+                if (ignoreCase && indexed != null && indexed.ignoreCase()) {
+                    return fromLowerCaseVariant(type, property, iterator);
+                }
+                return fromCollectionVariant(type, property, indexed != null, iterator);
             case STARTING_WITH:
             case ENDING_WITH:
+                String rangeAttribute = rangeAttribute(type, ignoreCase, property, indexed);
+                if (rangeAttribute != null) {
+                    return QueryTerm.of(fromRangeVariant(type, ignoreCase, rangeAttribute, iterator), COST_INDEXED);
+                }
+                return QueryTerm.of(fromLikeVariant(type, ignoreCase, property, iterator), COST_PATTERN);
+            case CONTAINING:
+            case NOT_CONTAINING:
             case LIKE:
             case NOT_LIKE:
-                return fromLikeVariant(type, ignoreCase, property, iterator);
+                return QueryTerm.of(fromLikeVariant(type, ignoreCase, property, iterator), COST_PATTERN);
             case TRUE:
             case FALSE:
-                return fromBooleanVariant(type, property);
+                return QueryTerm.of(fromBooleanVariant(type, property),
+                        indexed != null ? COST_INDEXED : COST_COMPARISON);
             case SIMPLE_PROPERTY:
             case NEGATING_SIMPLE_PROPERTY:
-                return fromEqualityVariant(type, ignoreCase, property, iterator);
+                if (ignoreCase && indexed != null && indexed.ignoreCase()) {
+                    return fromLowerCaseVariant(type, property, iterator);
+                }
+                return fromEqualityVariant(type, ignoreCase, property, indexed != null, iterator);
             case REGEX:
-                return Predicates.regex(property, iterator.next().toString());
+                return QueryTerm.of(Predicates.regex(property, iterator.next().toString()), COST_PATTERN);
             /* case EXISTS:
              * case NEAR:
              * case WITHIN:
@@ -232,12 +273,18 @@ public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
         }
     }
 
-    private Predicate<?, ?> fromCollectionVariant(Type type, String property, Iterator<Comparable<?>> iterator) {
+    private QueryTerm fromCollectionVariant(Type type, String property, boolean isIndexed,
+                                            Iterator<Comparable<?>> iterator) {
         switch (type) {
             case IN:
-                return Predicates.in(property, collectToArray(type, iterator));
+                Comparable<?>[] values = collectToArray(type, iterator);
+                if (Arrays.asList(values).contains(null)) {
+                    return QueryTerm.of(Predicates.in(property, values), COST_EQUALITY);
+                }
+                return QueryTerm.in(property, values, isIndexed ? COST_INDEXED : COST_EQUALITY);
             case NOT_IN:
-                return Predicates.not(Predicates.in(property, collectToArray(type, iterator)));
+                return QueryTerm.of(Predicates.not(Predicates.in(property, collectToArray(type, iterator))),
+                        COST_PATTERN);
             default:
                 throw new InvalidDataAccessApiUsageException(String.format("Logic error for '%s' in query", type));
         }
@@ -281,26 +328,106 @@ public class HazelcastQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
         }
     }
 
-    private Predicate<?, ?> fromEqualityVariant(Type type, boolean ignoreCase, String property,
-                                                Iterator<Comparable<?>> iterator) {
+    private QueryTerm fromEqualityVariant(Type type, boolean ignoreCase, String property, boolean isIndexed,
+                                          Iterator<Comparable<?>> iterator) {
         switch (type) {
             case SIMPLE_PROPERTY:
                 if (ignoreCase) {
-                    return Predicates.ilike(property, iterator.next().toString());
+                    return QueryTerm.of(Predicates.ilike(property, iterator.next().toString()), COST_PATTERN);
                 } else {
-                    return Predicates.equal(property, iterator.next());
+                    Comparable<?> value = iterator.next();
+                    if (value == null) {
+                        return QueryTerm.of(Predicates.equal(property, null), COST_COMPARISON);
+                    }
+                    return QueryTerm.equal(property, value, isIndexed ? COST_INDEXED : COST_EQUALITY);
                 }
             case NEGATING_SIMPLE_PROPERTY:
                 if (ignoreCase) {
-                    return Predicates.not(Predicates.ilike(property, iterator.next().toString()));
+                    return QueryTerm.of(Predicates.not(Predicates.ilike(property, iterator.next().toString())),
+                            COST_PATTERN);
                 } else {
-                    return Predicates.notEqual(property, iterator.next());
+                    return QueryTerm.of(Predicates.notEqual(property, iterator.next()), COST_COMPARISON);
+                }
+            default:
+                throw new InvalidDataAccessApiUsageException(String.format("Logic error for '%s' in query", type));
+        }
+    }
+
+    /* Equality and IN ignoring case, on a property marked to index its lower-cased value,
+     * become plain equality on that lower-cased value, which the index can answer.
+     */
+    private QueryTerm fromLowerCaseVariant(Type type, String property, Iterator<Comparable<?>> iterator) {
+        String attribute = LowerCaseValueExtractor.attributeFor(property);
+        switch (type) {
+            case SIMPLE_PROPERTY:
+                String value = LowerCaseValueExtractor.lowerCase(iterator.next());
+                if (value == null) {
+                    return QueryTerm.of(Predicates.equal(attribute, null), COST_INDEXED);
+                }
+                return QueryTerm.equal(attribute, value, COST_INDEXED);
+            case NEGATING_SIMPLE_PROPERTY:
+                return QueryTerm.of(Predicates.notEqual(attribute, LowerCaseValueExtractor.lowerCase(iterator.next())),
+                        COST_COMPARISON);
+            case IN:
+                Comparable<?>[] values = lowerCaseArray(type, iterator);
+                if (Arrays.asList(values).contains(null)) {
+                    return QueryTerm.of(Predicates.in(attribute, values), COST_INDEXED);
                 }
+                return QueryTerm.in(attribute, values, COST_INDEXED);
+            case NOT_IN:
+                return QueryTerm.of(Predicates.not(Predicates.in(attribute, lowerCaseArray(type, iterator))),
+                        COST_PATTERN);
             default:
                 throw new InvalidDataAccessApiUsageException(String.format("Logic error for '%s' in query", type));
         }
     }
 
+    /* A prefix is a range of an ordered index, from the prefix itself to the prefix followed
+     * by the highest character. A suffix is a prefix of the reversed value.
+     */
+    private String rangeAttribute(Type type, boolean ignoreCase, String property, Indexed indexed) {
+        if (indexed == null) {
+            return null;
+        }
+        if (type == Type.STARTING_WITH && indexed.ordered()) {
+            if (!ignoreCase) {
+                return property;
+            }
+            if (indexed.ignoreCase()) {
+                return LowerCaseValueExtractor.attributeFor(property);
+            }
+        }
+        if (type == Type.ENDING_WITH && !ignoreCase && indexed.reversed()) {
+            return ReversedValueExtractor.attributeFor(property);
+        }
+        return null;
+    }
+
+    private Predicate<?, ?> fromRangeVariant(Type type, boolean ignoreCase, String attribute,
+                                             Iterator<Comparable<?>> iterator) {
+        String prefix = iterator.next().toString();
+        if (ignoreCase) {
+            prefix = LowerCaseValueExtractor.lowerCase(prefix);
+        }
+        if (type == Type.ENDING_WITH) {
+            prefix = ReversedValueExtractor.reverse(prefix);
+        }
+        return Predicates.between(attribute, prefix, prefix + Character.MAX_VALUE);
+    }
+
+    private Indexed findIndexed(Part part) {
+        PropertyPath leaf = part.getProperty().getLeafProperty();
+        return IndexedProperties.find(leaf.getOwningType().getType(), leaf.getSegment());
+    }
+
+    private Comparable<?>[] lowerCaseArray(Type type, Iterator<Comparable<?>> iterator) {
+        Comparable<?>[] values = collectToArray(type, iterator);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = LowerCaseValueExtractor.lowerCase(values[i]);
+        }
+        return values;
+    }
+
     private boolean canUpperCase(PropertyPath path) {
         return String.class.equals(path.getType());
     }
@@ -0,0 +1,614 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.hazelcast.HazelcastKeyValueAdapter;
+import org.springframework.data.keyvalue.core.ForwardingCloseableIterator;
+import org.springframework.data.keyvalue.core.IterableConverter;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Runs a prepared {@link KeyValueQuery} for a query method, shaping the result to the method's return type. Shared
+ * by derived queries and {@link Query @Query} methods, so both treat paging, slicing and streaming alike.
+ * </P>
+ * <p>
+ * If the method returns a closed interface or DTO projection of the domain class, the properties it reads are found
+ * once, when the repository is created. Unpaged queries then extract only those properties on the members, and the
+ * projection is made from a domain object holding just those. Paged queries, and domain classes without a no-argument
+ * constructor, retrieve whole domain objects and project them here.
+ * </P>
+ * <p>
+ * A DTO is made from a domain object through its constructor, each parameter taking the property of the same name, or
+ * if the class was compiled without parameter names the only property of its type. Any other DTO is left to the
+ * {@link ResultProcessor}, which can use a constructor or factory method taking the domain class.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class HazelcastQueryExecutor {
+
+    private final QueryMethod queryMethod;
+    private final KeyValueOperations keyValueOperations;
+    private final ResultProcessor resultProcessor;
+    private final HazelcastSortAccessor sortAccessor = new HazelcastSortAccessor();
+
+    private final PersistentEntity<?, ?> persistentEntity;
+    private final Constructor<?> entityConstructor;
+    private final List<String> projectedProperties;
+    private final PreferredConstructor<?, ?> dtoConstructor;
+    private final List<String> dtoProperties;
+
+    /**
+     * @param queryMethod        The method whose return type shapes the results
+     * @param keyValueOperations Interface to Hazelcast
+     */
+    public HazelcastQueryExecutor(QueryMethod queryMethod, KeyValueOperations keyValueOperations) {
+        this.queryMethod = queryMethod;
+        this.keyValueOperations = keyValueOperations;
+        this.resultProcessor = queryMethod.getResultProcessor();
+
+        this.persistentEntity = keyValueOperations.getMappingContext()
+                .getPersistentEntity(queryMethod.getEntityInformation().getJavaType());
+        this.entityConstructor = this.findEntityConstructor();
+        this.projectedProperties = this.findProjectedProperties();
+        this.dtoConstructor = this.findDtoConstructor();
+        this.dtoProperties = this.findDtoProperties();
+    }
+
+    private Constructor<?> findEntityConstructor() {
+        if (this.persistentEntity == null) {
+            return null;
+        }
+        try {
+            return ReflectionUtils.accessibleConstructor(this.persistentEntity.getType());
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /* The persistent properties a closed projection reads, or null to retrieve whole domain objects.
+     */
+    private List<String> findProjectedProperties() {
+        ReturnedType returnedType = this.resultProcessor.getReturnedType();
+        if (this.persistentEntity == null || !returnedType.isProjecting() || returnedType.getInputProperties()
+                .isEmpty()) {
+            return null;
+        }
+        for (String property : returnedType.getInputProperties()) {
+            if (this.persistentEntity.getPersistentProperty(property) == null) {
+                return null;
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<>(returnedType.getInputProperties()));
+    }
+
+    /* A DTO's input properties are its constructor's parameters, in the same order.
+     */
+    private PreferredConstructor<?, ?> findDtoConstructor() {
+        ReturnedType returnedType = this.resultProcessor.getReturnedType();
+        if (this.persistentEntity == null || !returnedType.isProjecting() || returnedType.getReturnedType()
+                .isInterface()) {
+            return null;
+        }
+        return PreferredConstructorDiscoverer.discover(returnedType.getReturnedType());
+    }
+
+    /* The domain object property for each DTO constructor parameter, or null to leave the DTO to the ResultProcessor.
+     */
+    private List<String> findDtoProperties() {
+        if (this.dtoConstructor == null || !this.dtoConstructor.hasParameters()) {
+            return null;
+        }
+        List<String> properties = new ArrayList<>();
+        for (PreferredConstructor.Parameter<?, ?> parameter : this.dtoConstructor.getParameters()) {
+            PersistentProperty<?> property = (parameter.getName() == null ? this.findPropertyOfType(
+                    parameter.getRawType()) : this.persistentEntity.getPersistentProperty(parameter.getName()));
+            if (property == null || !ClassUtils.isAssignable(parameter.getRawType(), property.getType())) {
+                return null;
+            }
+            properties.add(property.getName());
+        }
+        return Collections.unmodifiableList(properties);
+    }
+
+    private PersistentProperty<?> findPropertyOfType(Class<?> type) {
+        PersistentProperty<?> match = null;
+        for (PersistentProperty<?> property : this.persistentEntity) {
+            if (ClassUtils.isAssignable(type, property.getType())) {
+                if (match != null) {
+                    return null;
+                }
+                match = property;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * <p>
+     * Execute a retrieval query, as a page, slice, stream, collection or single entity according to the method.
+     * </P>
+     *
+     * @param query       The query to run
+     * @param pageRequest For page and slice queries
+     * @return Query result
+     */
+    public Object execute(final KeyValueQuery<?> query, final Pageable pageRequest) {
+        return this.resultProcessor.processResult(this.executeForEntities(query, pageRequest), this::toDto);
+    }
+
+    /* Spring Data makes interface projections from domain objects, but DTOs are left to the store.
+     */
+    private Object toDto(Object source) {
+        if (this.dtoProperties == null || !this.persistentEntity.getType().isInstance(source)) {
+            return source;
+        }
+        PersistentPropertyAccessor accessor = this.persistentEntity.getPropertyAccessor(source);
+        Object[] arguments = new Object[this.dtoProperties.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = accessor.getProperty(
+                    this.persistentEntity.getRequiredPersistentProperty(this.dtoProperties.get(i)));
+        }
+        return BeanUtils.instantiateClass(this.dtoConstructor.getConstructor(), arguments);
+    }
+
+    private Object executeForEntities(final KeyValueQuery<?> query, final Pageable pageRequest) {
+
+        if (this.queryMethod.isPageQuery() || this.queryMethod.isSliceQuery()) {
+            return this.executePageSliceQuery(pageRequest, query);
+        }
+
+        if (this.isProjectable(query)) {
+            return this.executeProjectionQuery(query);
+        }
+
+        if (this.queryMethod.isStreamQuery() && this.isStreamable(query)) {
+            return this.executeStreamQuery(query);
+        }
+
+        /* Anything not projected on the members is found whole, for the ResultProcessor to project.
+         */
+        return this.executeFindQuery(query);
+    }
+
+    /**
+     * <p>
+     * Execute a count query.
+     * </P>
+     *
+     * @param query The query to run
+     * @return Matches
+     */
+    public long executeCountQuery(final KeyValueQuery<?> query) {
+        return this.keyValueOperations.count(query, this.queryMethod.getEntityInformation().getJavaType());
+    }
+
+    /**
+     * <p>
+     * Execute an "exists" query, which needs only a match rather than all of them. See
+     * {@link HazelcastKeyValueAdapter#exists(Predicate, String)} for what this saves.
+     * </P>
+     *
+     * @param query The query to run
+     * @return {@code true} if anything matches
+     */
+    public boolean executeExistsQuery(final KeyValueQuery<?> query) {
+        Object criteria = query.getCriteria();
+        if (criteria instanceof PagingPredicate) {
+            criteria = ((PagingPredicate<?, ?>) criteria).getPredicate();
+        }
+        Predicate<?, ?> predicate = (Predicate<?, ?>) criteria;
+        String keyspace = ((KeyValuePersistentEntity<?, ?>) this.persistentEntity).getKeySpace();
+
+        return this.keyValueOperations.execute(adapter -> {
+            if (!(adapter instanceof HazelcastKeyValueAdapter)) {
+                query.setRows(1);
+                return adapter.find(query, keyspace).iterator().hasNext();
+            }
+            return ((HazelcastKeyValueAdapter) adapter).exists(predicate, keyspace);
+        });
+    }
+
+    /**
+     * <p>
+     * Execute an aggregate query, computing the aggregate on the members rather than retrieving the matches. Any sort
+     * or limit from the method name is irrelevant to the aggregate, and ignored.
+     * </P>
+     *
+     * @param query       The query to run
+     * @param aggregation Aggregate parsed from the method name
+     * @return The aggregate, as the method's return type
+     */
+    public Object executeAggregateQuery(final KeyValueQuery<?> query, final Aggregation aggregation) {
+        Object criteria = query.getCriteria();
+        if (criteria instanceof PagingPredicate) {
+            criteria = ((PagingPredicate<?, ?>) criteria).getPredicate();
+        }
+        Predicate<?, ?> predicate = aggregation.restrict((Predicate<?, ?>) criteria);
+        String keyspace = ((KeyValuePersistentEntity<?, ?>) this.persistentEntity).getKeySpace();
+
+        Object result = this.keyValueOperations.execute(adapter -> {
+            if (!(adapter instanceof HazelcastKeyValueAdapter)) {
+                String message = String.format("Query method '%s' needs a '%s'.", this.queryMethod.getName(),
+                        HazelcastKeyValueAdapter.class.getSimpleName());
+                throw new UnsupportedOperationException(message);
+            }
+            return ((HazelcastKeyValueAdapter) adapter).aggregate(aggregation.toAggregator(), predicate, keyspace);
+        });
+        return aggregation.convert(result, this.queryMethod.getReturnedObjectType());
+    }
+
+    /**
+     * <p>
+     * Execute a query for the distinct values of a property, found on the members rather than by retrieving the
+     * matches. Values are {@code null} for no match, so are left out. A sort on the property orders the values, and a
+     * limit from the method name, such as "{@code findDistinctFirst3}", takes the first of them.
+     * </P>
+     *
+     * @param query     The query to run
+     * @param attribute Property whose values are wanted
+     * @param count     {@code true} for how many there are rather than the values
+     * @return The values, or their number, as the method's return type
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Object executeDistinctQuery(final KeyValueQuery<?> query, final String attribute, final boolean count) {
+        if (this.queryMethod.isPageQuery() || this.queryMethod.isSliceQuery()) {
+            String message = String.format("Query method '%s' cannot page distinct values.", this.queryMethod.getName());
+            throw new UnsupportedOperationException(message);
+        }
+
+        Object criteria = query.getCriteria();
+        int limit = query.getRows();
+        if (criteria instanceof PagingPredicate) {
+            limit = ((PagingPredicate<?, ?>) criteria).getPageSize();
+            criteria = ((PagingPredicate<?, ?>) criteria).getPredicate();
+        }
+        Predicate notNull = Predicates.notEqual(attribute, null);
+        Predicate<?, ?> predicate = (criteria == null ? notNull : Predicates.and((Predicate) criteria, notNull));
+        Comparator<Object> comparator = this.distinctComparator(query.getSort(), attribute);
+        String keyspace = ((KeyValuePersistentEntity<?, ?>) this.persistentEntity).getKeySpace();
+
+        Set<Object> values = this.keyValueOperations.execute(adapter -> {
+            if (!(adapter instanceof HazelcastKeyValueAdapter)) {
+                String message = String.format("Query method '%s' needs a '%s'.", this.queryMethod.getName(),
+                        HazelcastKeyValueAdapter.class.getSimpleName());
+                throw new UnsupportedOperationException(message);
+            }
+            return ((HazelcastKeyValueAdapter) adapter).aggregate(Aggregators.distinct(attribute), predicate, keyspace);
+        });
+
+        if (count) {
+            Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(this.queryMethod.getReturnedObjectType());
+            Class<Number> numberType = (Class<Number>) (Number.class.isAssignableFrom(type) ? type : Long.class);
+            return NumberUtils.convertNumberToTargetClass(values.size(), numberType);
+        }
+
+        List<Object> content = new ArrayList<>(values);
+        if (comparator != null) {
+            content.sort(comparator);
+        }
+        if (limit > 0 && content.size() > limit) {
+            content = content.subList(0, limit);
+        }
+
+        if (this.queryMethod.isStreamQuery()) {
+            return content.stream();
+        }
+        if (!this.queryMethod.isCollectionQuery()) {
+            return content.isEmpty() ? null : content.get(0);
+        }
+        return content;
+    }
+
+    /* Only the distinct property can be sorted on, the values have nothing else.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Comparator<Object> distinctComparator(Sort sort, String attribute) {
+        if (sort == null || sort.isUnsorted()) {
+            return null;
+        }
+        Comparator comparator = null;
+        for (Order order : sort) {
+            if (!order.getProperty().equals(attribute)) {
+                String message = String.format("Query method '%s' cannot sort distinct '%s' values on '%s'.",
+                        this.queryMethod.getName(), attribute, order.getProperty());
+                throw new UnsupportedOperationException(message);
+            }
+            if (comparator == null) {
+                comparator = order.isIgnoreCase() ? String.CASE_INSENSITIVE_ORDER : Comparator.naturalOrder();
+                comparator = order.isAscending() ? comparator : comparator.reversed();
+            }
+        }
+        return comparator;
+    }
+
+    /**
+     * <p>
+     * Execute a "delete" query, not really a query more of an operation.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Delete is not a collection operation, the return value is a single object that
+     * was deleted.
+     * </p>
+     * <p>Although the <i>find</i> operation returns an iterator, the result set is either empty
+     * or has one domain object in it. If there are multiple possible matches it's random which
+     * one of the matches is deleted.
+     * </p>
+     *
+     * @param query The query to run
+     * @return Query The individual entry deleted
+     */
+    public Object executeDeleteQuery(final KeyValueQuery<?> query) {
+
+        Iterable<?> resultSet = this.keyValueOperations.find(query, this.queryMethod.getEntityInformation().getJavaType());
+        Iterator<?> iterator = resultSet.iterator();
+
+        if (iterator.hasNext()) {
+            return this.keyValueOperations.delete(iterator.next());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * Slices and pages are similar ways to iterate through the result set in blocks, mimicking a cursor. A
+     * {@link org.springframework.data.domain.Slice Slice} is a simpler concept, only requiring to know if further blocks
+     * of data are available. A {@link org.springframework.data.domain.Page Page} requires to know how many blocks of data
+     * are available in total.
+     * </p>
+     *
+     * @param pageRequest The page or slice wanted
+     * @param query       The query to run
+     * @return Query result
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Object executePageSliceQuery(final Pageable pageRequest, final KeyValueQuery<?> query) {
+
+        int requiredRows = pageRequest.getPageSize();
+
+        query.setOffset(pageRequest.getOffset());
+
+        if (this.queryMethod.isPageQuery()) {
+            long totalElements;
+            if (query.getCriteria() == null) {
+                totalElements = this.keyValueOperations.count(this.queryMethod.getEntityInformation().getJavaType());
+            } else {
+                totalElements = this.keyValueOperations.count(query, this.queryMethod.getEntityInformation().getJavaType());
+            }
+
+            query.setRows(requiredRows);
+
+            Iterable<?> resultSet = this.keyValueOperations.find(query, this.queryMethod.getEntityInformation().getJavaType());
+            List<?> content = IterableConverter.toList(resultSet);
+
+            return new PageImpl(content, pageRequest, totalElements);
+        } else {
+            /* One row more than the slice needs shows if there is a next slice, without counting.
+             */
+            query.setRows(requiredRows + 1);
+
+            Iterable<?> resultSet = this.keyValueOperations.find(query, this.queryMethod.getEntityInformation().getJavaType());
+            List<?> content = IterableConverter.toList(resultSet);
+
+            boolean hasNext = content.size() > requiredRows;
+            if (hasNext) {
+                content = content.subList(0, requiredRows);
+            }
+            return new SliceImpl(content, pageRequest, hasNext);
+        }
+    }
+
+    /**
+     * <p>
+     * Execute a retrieval query. The query engine will return this in an iterator, which may need conversion to a single
+     * domain entity or a stream.
+     * </p>
+     *
+     * @param query The query to run
+     * @return Query result
+     */
+    public Object executeFindQuery(final KeyValueQuery<?> query) {
+
+        Iterable<?> resultSet = this.keyValueOperations.find(query, this.queryMethod.getEntityInformation().getJavaType());
+
+        if (!this.queryMethod.isCollectionQuery() && !this.queryMethod.isPageQuery() && !this.queryMethod.isSliceQuery()
+                && !this.queryMethod.isStreamQuery()) {
+            // Singleton result
+            return resultSet.iterator().hasNext() ? resultSet.iterator().next() : null;
+        }
+
+        if (this.queryMethod.isStreamQuery()) {
+            return StreamUtils.createStreamFromIterator(resultSet.iterator());
+        }
+
+        return resultSet;
+    }
+
+    /**
+     * <p>
+     * A query can be streamed from each partition in turn if it needs no ordering or position across the whole
+     * result set.
+     * </P>
+     *
+     * @param query The query to run
+     * @return {@code true} if neither sorted nor limited, including by a {@link PagingPredicate} for "{@code findFirst}"
+     */
+    public boolean isStreamable(final KeyValueQuery<?> query) {
+        Object criteria = query.getCriteria();
+        return (query.getSort() == null || query.getSort().isUnsorted()) && query.getRows() < 0
+                && query.getOffset() < 0 && (criteria == null
+                || (criteria instanceof Predicate && !(criteria instanceof PagingPredicate)));
+    }
+
+    /**
+     * <p>
+     * Execute a retrieval query returning a {@link Stream}, fetching matches from one partition at a time rather than
+     * all at once. Closing the stream stops the fetching.
+     * </p>
+     *
+     * @param query The query to run, {@link #isStreamable streamable}
+     * @return Lazy query result
+     */
+    public Stream<?> executeStreamQuery(final KeyValueQuery<?> query) {
+
+        Class<?> type = this.queryMethod.getEntityInformation().getJavaType();
+        String keyspace = ((KeyValuePersistentEntity<?, ?>) this.keyValueOperations.getMappingContext()
+                .getRequiredPersistentEntity(type)).getKeySpace();
+        Predicate<?, ?> criteria = (Predicate<?, ?>) query.getCriteria();
+
+        CloseableIterator<?> iterator = this.keyValueOperations.execute(adapter -> {
+            if (adapter instanceof HazelcastKeyValueAdapter) {
+                return ((HazelcastKeyValueAdapter) adapter).values(criteria, keyspace);
+            }
+            return new ForwardingCloseableIterator<>(adapter.find(query, keyspace, type).iterator());
+        });
+
+        return StreamUtils.createStreamFromIterator(iterator).filter(type::isInstance);
+    }
+
+    /**
+     * <p>
+     * A query can be answered from projected properties if the method returns a closed projection, and the query needs
+     * no position across the whole result set. Sorting is allowed on properties, which are projected too.
+     * </P>
+     *
+     * @param query The query to run
+     * @return {@code true} to use {@link #executeProjectionQuery}
+     */
+    public boolean isProjectable(final KeyValueQuery<?> query) {
+        if (this.projectedProperties == null || this.entityConstructor == null || (this.dtoConstructor != null
+                && this.dtoProperties == null)) {
+            return false;
+        }
+        if (query.getSort() != null) {
+            for (Order order : query.getSort()) {
+                if (this.persistentEntity.getPersistentProperty(order.getProperty()) == null) {
+                    return false;
+                }
+            }
+        }
+        Object criteria = query.getCriteria();
+        return query.getRows() < 0 && query.getOffset() < 0 && (criteria == null
+                || (criteria instanceof Predicate && !(criteria instanceof PagingPredicate)));
+    }
+
+    /**
+     * <p>
+     * Execute a retrieval query for a projection, extracting only the projected properties, and any sorted on, on the
+     * members. Each match becomes a domain object with just those properties set, for the projection to be made from.
+     * </P>
+     *
+     * @param query The query to run, {@link #isProjectable projectable}
+     * @return Query result of partial domain objects
+     */
+    public Object executeProjectionQuery(final KeyValueQuery<?> query) {
+
+        Set<String> properties = new LinkedHashSet<>(this.projectedProperties);
+        boolean sorted = query.getSort() != null && query.getSort().isSorted();
+        if (sorted) {
+            query.getSort().forEach(order -> properties.add(order.getProperty()));
+        }
+        String[] attributes = properties.toArray(new String[0]);
+
+        Class<?> type = this.persistentEntity.getType();
+        String keyspace = ((KeyValuePersistentEntity<?, ?>) this.persistentEntity).getKeySpace();
+        Predicate<?, ?> criteria = (Predicate<?, ?>) query.getCriteria();
+        boolean lazy = this.queryMethod.isStreamQuery() && !sorted;
+
+        Iterator<Object[]> rows = this.keyValueOperations.execute(adapter -> {
+            if (!(adapter instanceof HazelcastKeyValueAdapter)) {
+                return null;
+            }
+            HazelcastKeyValueAdapter hazelcastKeyValueAdapter = (HazelcastKeyValueAdapter) adapter;
+            if (lazy) {
+                return hazelcastKeyValueAdapter.projectLazily(criteria, keyspace, attributes);
+            }
+            return hazelcastKeyValueAdapter.project(criteria, keyspace, attributes).iterator();
+        });
+        if (rows == null) {
+            return this.executeFindQuery(query);
+        }
+
+        if (lazy) {
+            CloseableIterator<Object[]> closeableRows = (CloseableIterator<Object[]>) rows;
+            return StreamUtils.createStreamFromIterator(closeableRows).map(row -> this.toEntity(attributes, row));
+        }
+
+        List<Object> content = new ArrayList<>();
+        rows.forEachRemaining(row -> content.add(this.toEntity(attributes, row)));
+        if (sorted) {
+            Comparator<Entry<?, ?>> comparator = this.sortAccessor.resolve(query);
+            content.sort((o1, o2) -> comparator.compare(new SimpleImmutableEntry<>(null, o1),
+                    new SimpleImmutableEntry<>(null, o2)));
+        }
+
+        if (this.queryMethod.isStreamQuery()) {
+            return content.stream();
+        }
+        if (!this.queryMethod.isCollectionQuery()) {
+            return content.isEmpty() ? null : content.get(0);
+        }
+        return content;
+    }
+
+    private Object toEntity(String[] attributes, Object[] row) {
+        Object entity = BeanUtils.instantiateClass(this.entityConstructor);
+        PersistentPropertyAccessor accessor = this.persistentEntity.getPropertyAccessor(entity);
+        for (int i = 0; i < attributes.length; i++) {
+            accessor.setProperty(this.persistentEntity.getRequiredPersistentProperty(attributes[i]), row[i]);
+        }
+        return accessor.getBean();
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * A {@link Query @Query} string parsed once into a tree of Hazelcast {@link Predicate} factories, ready for the
+ * arguments of each call to be bound.
+ * </P>
+ * <p>
+ * The syntax is that of Hazelcast's {@link com.hazelcast.query.SqlPredicate SqlPredicate}: comparisons with
+ * {@code =}, {@code !=}, {@code <>}, {@code <}, {@code <=}, {@code >}, {@code >=}, {@code LIKE}, {@code ILIKE},
+ * {@code REGEX}, {@code IN} and {@code BETWEEN}, combined with {@code AND}, {@code OR}, {@code NOT} and parentheses.
+ * Wherever a value is expected, a bind marker can be used instead of a literal:
+ * </P>
+ * <ul>
+ * <li>{@code %s} takes the next argument in turn</li>
+ * <li>{@code ?1}, {@code ?2}... take the argument at that position, counting from one</li>
+ * <li>{@code :name} takes the argument annotated {@code @Param("name")}</li>
+ * </ul>
+ * <p>
+ * Arguments are bound as values, never as query text, so they keep their type and cannot change the query. A
+ * {@code Collection} or array argument to {@code IN} supplies all its elements. Only the arguments that can be bound
+ * are counted, a {@code Pageable} or {@code Sort} argument is skipped.
+ * </P>
+ * <p>
+ * Literals, quoted or not, are passed as strings, and Hazelcast converts them to the type of the attribute, so
+ * {@code awardYear > 1999} compares numbers and {@code code = 0042} keeps its leading zeros for a string attribute.
+ * A {@code %s} inside quotes is rejected, as a quoted literal is never formatted with an argument. Use an unquoted
+ * marker instead, with any wildcards in the argument for {@code LIKE}.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public final class HazelcastQueryTemplate {
+
+    private final String query;
+    private final Function<Object[], Predicate<?, ?>> template;
+    private final Predicate<?, ?> constant;
+
+    private HazelcastQueryTemplate(String query, Function<Object[], Predicate<?, ?>> template, boolean bindable) {
+        this.query = query;
+        this.template = template;
+        this.constant = bindable ? null : template.apply(new Object[0]);
+    }
+
+    /**
+     * <p>
+     * Parse a query string.
+     * </P>
+     *
+     * @param query      Hazelcast SQL with optional bind markers
+     * @param parameters The query method's parameters, to find bindable arguments and their names
+     * @return A reusable template
+     * @throws IllegalArgumentException If the query cannot be parsed
+     */
+    public static HazelcastQueryTemplate compile(String query, Parameters<?, ?> parameters) {
+        Assert.hasText(query, "Query must not be empty.");
+        Assert.notNull(parameters, "Parameters must not be 'null'.");
+
+        Parser parser = new Parser(query, parameters);
+        Function<Object[], Predicate<?, ?>> template = parser.parse();
+        return new HazelcastQueryTemplate(query, template, parser.bindable);
+    }
+
+    /**
+     * <p>
+     * Bind the arguments of a call to create the predicate to run.
+     * </P>
+     *
+     * @param arguments All the arguments to the query method
+     * @return A new predicate, or the same one each time if the query has no bind markers
+     */
+    public Predicate<?, ?> bind(Object[] arguments) {
+        if (this.constant != null) {
+            return this.constant;
+        }
+        return this.template.apply(arguments == null ? new Object[0] : arguments);
+    }
+
+    @Override
+    public String toString() {
+        return this.query;
+    }
+
+    /**
+     * <p>
+     * Recursive descent over the tokens of the query, producing functions from arguments to predicates.
+     * </P>
+     */
+    private static final class Parser {
+        private final String query;
+        private final List<String> tokens;
+        private final int[] bindableIndexes;
+        private final Parameters<?, ?> parameters;
+        private int position;
+        private int nextSequential;
+        private boolean bindable;
+
+        Parser(String query, Parameters<?, ?> parameters) {
+            this.query = query;
+            this.tokens = tokenize(query);
+            this.parameters = parameters;
+
+            Parameters<?, ?> bindableParameters = parameters.getBindableParameters();
+            this.bindableIndexes = new int[bindableParameters.getNumberOfParameters()];
+            for (int i = 0; i < this.bindableIndexes.length; i++) {
+                this.bindableIndexes[i] = bindableParameters.getParameter(i).getIndex();
+            }
+        }
+
+        Function<Object[], Predicate<?, ?>> parse() {
+            Function<Object[], Predicate<?, ?>> result = or();
+            if (this.position != this.tokens.size()) {
+                throw error("Unexpected '" + this.tokens.get(this.position) + "'");
+            }
+            return result;
+        }
+
+        private Function<Object[], Predicate<?, ?>> or() {
+            List<Function<Object[], Predicate<?, ?>>> operands = new ArrayList<>();
+            operands.add(and());
+            while (accept("OR")) {
+                operands.add(and());
+            }
+            if (operands.size() == 1) {
+                return operands.get(0);
+            }
+            return arguments -> Predicates.or(bindAll(operands, arguments));
+        }
+
+        private Function<Object[], Predicate<?, ?>> and() {
+            List<Function<Object[], Predicate<?, ?>>> operands = new ArrayList<>();
+            operands.add(not());
+            while (accept("AND")) {
+                operands.add(not());
+            }
+            if (operands.size() == 1) {
+                return operands.get(0);
+            }
+            return arguments -> Predicates.and(bindAll(operands, arguments));
+        }
+
+        private Function<Object[], Predicate<?, ?>> not() {
+            if (accept("NOT")) {
+                Function<Object[], Predicate<?, ?>> operand = not();
+                return arguments -> Predicates.not(operand.apply(arguments));
+            }
+            if (accept("(")) {
+                Function<Object[], Predicate<?, ?>> nested = or();
+                expect(")");
+                return nested;
+            }
+            return condition();
+        }
+
+        @SuppressWarnings("rawtypes")
+        private Function<Object[], Predicate<?, ?>> condition() {
+            String attribute = next("attribute");
+            boolean negated = accept("NOT");
+            String operator = next("operator").toUpperCase(Locale.ROOT);
+
+            Function<Object[], Predicate<?, ?>> predicate;
+            switch (operator) {
+                case "=":
+                case "==":
+                    predicate = comparison(attribute, Predicates::equal);
+                    break;
+                case "!=":
+                case "<>":
+                    predicate = comparison(attribute, Predicates::notEqual);
+                    break;
+                case "<":
+                    predicate = comparison(attribute, Predicates::lessThan);
+                    break;
+                case "<=":
+                    predicate = comparison(attribute, Predicates::lessEqual);
+                    break;
+                case ">":
+                    predicate = comparison(attribute, Predicates::greaterThan);
+                    break;
+                case ">=":
+                    predicate = comparison(attribute, Predicates::greaterEqual);
+                    break;
+                case "LIKE": {
+                    Function<Object[], Object> value = value();
+                    predicate = arguments -> Predicates.like(attribute, string(value.apply(arguments)));
+                    break;
+                }
+                case "ILIKE": {
+                    Function<Object[], Object> value = value();
+                    predicate = arguments -> Predicates.ilike(attribute, string(value.apply(arguments)));
+                    break;
+                }
+                case "REGEX": {
+                    Function<Object[], Object> value = value();
+                    predicate = arguments -> Predicates.regex(attribute, string(value.apply(arguments)));
+                    break;
+                }
+                case "BETWEEN": {
+                    Function<Object[], Object> from = value();
+                    expect("AND");
+                    Function<Object[], Object> to = value();
+                    predicate = arguments -> Predicates.between(attribute, comparable(from.apply(arguments)),
+                            comparable(to.apply(arguments)));
+                    break;
+                }
+                case "IN": {
+                    List<Function<Object[], Object>> values = new ArrayList<>();
+                    if (accept("(")) {
+                        do {
+                            values.add(value());
+                        } while (accept(","));
+                        expect(")");
+                    } else {
+                        values.add(value());
+                    }
+                    predicate = arguments -> {
+                        List<Comparable> elements = new ArrayList<>();
+                        for (Function<Object[], Object> value : values) {
+                            addElements(elements, value.apply(arguments));
+                        }
+                        return Predicates.in(attribute, elements.toArray(new Comparable[elements.size()]));
+                    };
+                    break;
+                }
+                default:
+                    throw error("Unknown operator '" + operator + "'");
+            }
+
+            if (negated) {
+                if (!"LIKE".equals(operator) && !"ILIKE".equals(operator) && !"REGEX".equals(operator)
+                        && !"IN".equals(operator) && !"BETWEEN".equals(operator)) {
+                    throw error("NOT cannot precede '" + operator + "'");
+                }
+                Function<Object[], Predicate<?, ?>> positive = predicate;
+                return arguments -> Predicates.not(positive.apply(arguments));
+            }
+            return predicate;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private Function<Object[], Predicate<?, ?>> comparison(String attribute, BiFunction<String, Comparable, Predicate> factory) {
+            Function<Object[], Object> value = value();
+            return arguments -> factory.apply(attribute, comparable(value.apply(arguments)));
+        }
+
+        /**
+         * <p>
+         * A literal, fixed now, or a bind marker, resolved from the arguments of each call.
+         * </P>
+         */
+        private Function<Object[], Object> value() {
+            String token = next("value");
+
+            if (token.startsWith("'") || token.startsWith("\"")) {
+                String literal = unquote(token);
+                if (containsFormatMarker(literal)) {
+                    throw error("Bind marker %s inside quotes, remove the quotes to bind an argument");
+                }
+                return arguments -> literal;
+            }
+            if (token.equals("%s")) {
+                int index = sequential();
+                return arguments -> arguments[index];
+            }
+            if (token.startsWith("?")) {
+                int index = positional(token);
+                return arguments -> arguments[index];
+            }
+            if (token.startsWith(":")) {
+                int index = named(token.substring(1));
+                return arguments -> arguments[index];
+            }
+            return arguments -> token;
+        }
+
+        private int sequential() {
+            if (this.nextSequential >= this.bindableIndexes.length) {
+                throw error("More bind markers than arguments");
+            }
+            this.bindable = true;
+            return this.bindableIndexes[this.nextSequential++];
+        }
+
+        private int positional(String token) {
+            int position;
+            if (token.length() == 1) {
+                position = this.nextSequential + 1;
+                this.nextSequential++;
+            } else {
+                try {
+                    position = Integer.parseInt(token.substring(1));
+                } catch (NumberFormatException e) {
+                    throw error("Bad bind marker '" + token + "'");
+                }
+            }
+            if (position < 1 || position > this.bindableIndexes.length) {
+                throw error("No argument for bind marker '" + token + "'");
+            }
+            this.bindable = true;
+            return this.bindableIndexes[position - 1];
+        }
+
+        private int named(String name) {
+            for (Parameter parameter : this.parameters.getBindableParameters()) {
+                if (parameter.getName().filter(name::equals).isPresent()) {
+                    this.bindable = true;
+                    return parameter.getIndex();
+                }
+            }
+            throw error("No argument named '" + name + "'");
+        }
+
+        private boolean accept(String expected) {
+            if (this.position < this.tokens.size() && this.tokens.get(this.position).equalsIgnoreCase(expected)) {
+                this.position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String expected) {
+            if (!accept(expected)) {
+                throw error("Expected '" + expected + "'");
+            }
+        }
+
+        private String next(String expected) {
+            if (this.position == this.tokens.size()) {
+                throw error("Expected " + expected + " at end");
+            }
+            return this.tokens.get(this.position++);
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(String.format("%s in @Query \"%s\"", message, this.query));
+        }
+
+        private static Predicate<?, ?>[] bindAll(List<Function<Object[], Predicate<?, ?>>> operands,
+                                                 Object[] arguments) {
+            Predicate<?, ?>[] predicates = new Predicate<?, ?>[operands.size()];
+            for (int i = 0; i < predicates.length; i++) {
+                predicates[i] = operands.get(i).apply(arguments);
+            }
+            return predicates;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private static Comparable comparable(Object value) {
+            if (value != null && !(value instanceof Comparable)) {
+                throw new IllegalArgumentException(
+                        String.format("Query argument '%s' of %s is not Comparable", value, value.getClass()));
+            }
+            return (Comparable) value;
+        }
+
+        private static String string(Object value) {
+            return value == null ? null : value.toString();
+        }
+
+        @SuppressWarnings("rawtypes")
+        private static void addElements(List<Comparable> elements, Object value) {
+            if (value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    elements.add(comparable(element));
+                }
+            } else if (value != null && value.getClass().isArray()) {
+                for (Object element : ObjectUtils.toObjectArray(value)) {
+                    elements.add(comparable(element));
+                }
+            } else {
+                elements.add(comparable(value));
+            }
+        }
+
+        private static boolean containsFormatMarker(String literal) {
+            for (int i = 0; i < literal.length() - 1; i++) {
+                if (literal.charAt(i) == '%') {
+                    if (literal.charAt(i + 1) == 's') {
+                        return true;
+                    }
+                    i++;
+                }
+            }
+            return false;
+        }
+
+        private static String unquote(String token) {
+            char quote = token.charAt(0);
+            String body = token.substring(1, token.length() - 1);
+            return body.replace(String.valueOf(quote) + quote, String.valueOf(quote));
+        }
+
+        /**
+         * <p>
+         * Split into parentheses, commas, comparison operators, quoted literals and words.
+         * </P>
+         */
+        private List<String> tokenize(String query) {
+            List<String> result = new ArrayList<>();
+            int i = 0;
+            while (i < query.length()) {
+                char c = query.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (c == '(' || c == ')' || c == ',') {
+                    result.add(String.valueOf(c));
+                    i++;
+                } else if (c == '=' || c == '!' || c == '<' || c == '>') {
+                    int start = i++;
+                    if (i < query.length() && (query.charAt(i) == '=' || (c == '<' && query.charAt(i) == '>'))) {
+                        i++;
+                    }
+                    result.add(query.substring(start, i));
+                } else if (c == '\'' || c == '"') {
+                    int start = i++;
+                    while (true) {
+                        if (i >= query.length()) {
+                            throw new IllegalArgumentException(
+                                    String.format("Unterminated literal in @Query \"%s\"", query));
+                        }
+                        if (query.charAt(i) == c) {
+                            if (i + 1 < query.length() && query.charAt(i + 1) == c) {
+                                i += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        i++;
+                    }
+                    i++;
+                    result.add(query.substring(start, i));
+                } else {
+                    int start = i;
+                    while (i < query.length() && !Character.isWhitespace(query.charAt(i))
+                            && "(),=!<>'\"".indexOf(query.charAt(i)) < 0) {
+                        i++;
+                    }
+                    result.add(query.substring(start, i));
+                }
+            }
+            return result;
+        }
+    }
+}
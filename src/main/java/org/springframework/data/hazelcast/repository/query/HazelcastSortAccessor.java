@@ -15,13 +15,16 @@
  */
 package org.springframework.data.hazelcast.repository.query;
 
-import org.springframework.data.domain.Sort.NullHandling;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.keyvalue.core.SortAccessor;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
-import org.springframework.util.comparator.CompoundComparator;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
@@ -32,11 +35,41 @@ import java.util.Map.Entry;
  * Although {@code SpelPropertyComparator} would do most of the work, this is not serializable so cannot work in a
  * cluster. Also, do not wish to assume anything other than Hazelcast classes are available on remote nodes.
  * </P>
+ * <p>
+ * Each {@link Order} may be a dotted path to an embedded property, may ignore case, and may place {@code null}
+ * values first or last.
+ * </P>
+ * <p>
+ * The comparators are sent with Java serialization, or as
+ * {@link com.hazelcast.nio.serialization.IdentifiedDataSerializable IdentifiedDataSerializable} if that is chosen, see
+ * {@link HazelcastDataSerializableFactory}. They do not change once built, so one is built for each distinct
+ * {@link Sort} and reused.
+ * </P>
  *
  * @author Neil Stevenson
  */
 public class HazelcastSortAccessor implements SortAccessor<Comparator<Entry<?, ?>>> {
 
+    private final Map<Sort, Comparator<Entry<?, ?>>> comparators = new ConcurrentReferenceHashMap<>();
+    private final boolean identified;
+
+    /**
+     * <p>
+     * Build comparators serialized as {@link HazelcastDataSerializableFactory#isIdentified()} decides.
+     * </P>
+     */
+    public HazelcastSortAccessor() {
+        this(HazelcastDataSerializableFactory.isIdentified());
+    }
+
+    /**
+     * @param identified {@code true} to build comparators that are
+     *                   {@link com.hazelcast.nio.serialization.IdentifiedDataSerializable IdentifiedDataSerializable}
+     */
+    public HazelcastSortAccessor(boolean identified) {
+        this.identified = identified;
+    }
+
     /**
      * <p>
      * Sort on a sequence of fields, possibly none.
@@ -51,29 +84,22 @@ public class HazelcastSortAccessor implements SortAccessor<Comparator<Entry<?, ?
             return null;
         }
 
-        CompoundComparator<Entry<?, ?>> compoundComparator = new CompoundComparator<>();
-
-        for (Order order : query.getSort()) {
-
-            if (order.getProperty().indexOf('.') > -1) {
-                throw new UnsupportedOperationException("Embedded fields not implemented: " + order);
-            }
-
-            if (order.isIgnoreCase()) {
-                throw new UnsupportedOperationException("Ignore case not implemented: " + order);
-            }
+        return this.comparators.computeIfAbsent(query.getSort(), this::create);
+    }
 
-            if (NullHandling.NATIVE != order.getNullHandling()) {
-                throw new UnsupportedOperationException("Null handling not implemented: " + order);
-            }
+    private Comparator<Entry<?, ?>> create(Sort sort) {
 
-            HazelcastPropertyComparator hazelcastPropertyComparator = new HazelcastPropertyComparator(order.getProperty(),
-                    order.isAscending());
+        List<HazelcastPropertyComparator> propertyComparators = new ArrayList<>();
 
-            compoundComparator.addComparator(hazelcastPropertyComparator);
+        for (Order order : sort) {
+            propertyComparators.add(new HazelcastPropertyComparator(order.getProperty(), order.isAscending(),
+                    order.isIgnoreCase(), order.getNullHandling()));
         }
 
-        return compoundComparator;
+        if (this.identified) {
+            return new HazelcastIdentifiedCompoundComparator(propertyComparators);
+        }
+        return new HazelcastCompoundComparator(propertyComparators);
     }
 
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.hazelcast.Indexed;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * Find how a property is {@link Indexed}, once per class and property, so query creation can choose predicates the
+ * indexes can answer.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+final class IndexedProperties {
+
+    private static final ClassValue<ConcurrentMap<String, Optional<Indexed>>> INDEXED =
+            new ClassValue<ConcurrentMap<String, Optional<Indexed>>>() {
+                @Override
+                protected ConcurrentMap<String, Optional<Indexed>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private IndexedProperties() {
+    }
+
+    /**
+     * <p>
+     * The {@link Indexed} annotation on a property's field, or failing that on its getter.
+     * </P>
+     *
+     * @param type     The class declaring the property
+     * @param property The property name, not a path
+     * @return The annotation, or {@code null} if the property is not indexed
+     */
+    static Indexed find(Class<?> type, String property) {
+        return INDEXED.get(type).computeIfAbsent(property, name -> {
+            Field field = ReflectionUtils.findField(type, name);
+            Indexed indexed = (field == null ? null : AnnotatedElementUtils.findMergedAnnotation(field, Indexed.class));
+            if (indexed == null) {
+                PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, name);
+                if (descriptor != null && descriptor.getReadMethod() != null) {
+                    indexed = AnnotatedElementUtils.findMergedAnnotation(descriptor.getReadMethod(), Indexed.class);
+                }
+            }
+            return Optional.ofNullable(indexed);
+        }).orElse(null);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.AbstractPageRequest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Request the page of rows following an anchor, the sort values of the last row already seen, rather than the page at
+ * an offset.
+ * </P>
+ * <p>
+ * A page at an offset requires Hazelcast to sort every row before it, so deep pages become increasingly expensive. The
+ * anchor instead becomes range conditions on the sort properties, and the page is always the first page of the rows
+ * that remain. Each page costs the same however deep it is.
+ * </P>
+ * <p>
+ * Pass this to a query method with a {@link org.springframework.data.domain.Pageable Pageable} parameter, preferably
+ * one returning a {@link org.springframework.data.domain.Slice Slice} or {@code List}. The sort should end with a
+ * unique property such as the id, otherwise rows with the same sort values as the anchor are skipped. Every page is
+ * page zero, ask for the next with {@link #following(Object)} or {@link #after(Object...)} rather than {@link #next()}.
+ * </P>
+ * <p>
+ * The anchor is compared with the stored values as they are, so the sort cannot ignore case or place {@code null}
+ * values, and the anchor cannot contain {@code null}.
+ * </P>
+ * <pre>
+ * KeysetPageRequest request = KeysetPageRequest.first(100, Sort.by("lastname", "id"));
+ * Slice&lt;Person&gt; slice = personRepository.findByFirstname("James", request);
+ * while (slice.hasNext()) {
+ *     request = request.following(slice.getContent().get(slice.getNumberOfElements() - 1));
+ *     slice = personRepository.findByFirstname("James", request);
+ * }
+ * </pre>
+ *
+ * @author Neil Stevenson
+ */
+public class KeysetPageRequest extends AbstractPageRequest {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Sort sort;
+    private final Object[] anchor;
+
+    /**
+     * @param size   Rows per page, must be positive
+     * @param sort   Must be sorted, case sensitive and with native null handling
+     * @param anchor One value per sort property from the last row seen, or none for the first page
+     */
+    public KeysetPageRequest(int size, Sort sort, Object... anchor) {
+        super(0, size);
+        Assert.notNull(sort, "Sort must not be 'null'.");
+        Assert.isTrue(sort.isSorted(), "Keyset pagination needs a sort.");
+        for (Order order : sort) {
+            Assert.isTrue(!order.isIgnoreCase(), () -> String.format(
+                    "Keyset pagination cannot ignore case, as requested for '%s'.", order.getProperty()));
+            Assert.isTrue(order.getNullHandling() == Sort.NullHandling.NATIVE, () -> String.format(
+                    "Keyset pagination cannot order nulls, as requested for '%s'.", order.getProperty()));
+        }
+        Assert.notNull(anchor, "Anchor must not be 'null'.");
+        Assert.isTrue(anchor.length == 0 || anchor.length == sort.stream().count(),
+                "Anchor needs one value per sort property.");
+        Assert.noNullElements(anchor, "Anchor values must not be 'null'.");
+        this.sort = sort;
+        this.anchor = anchor.clone();
+    }
+
+    /**
+     * <p>
+     * The first page, with no anchor.
+     * </P>
+     *
+     * @param size Rows per page, must be positive
+     * @param sort Must be sorted
+     * @return A request for the first page
+     */
+    public static KeysetPageRequest first(int size, Sort sort) {
+        return new KeysetPageRequest(size, sort);
+    }
+
+    /**
+     * <p>
+     * The page following the given sort values.
+     * </P>
+     *
+     * @param anchor One value per sort property
+     * @return A request for the same size and sort
+     */
+    public KeysetPageRequest after(Object... anchor) {
+        Assert.isTrue(anchor.length > 0, "Anchor must not be empty.");
+        return new KeysetPageRequest(getPageSize(), getSort(), anchor);
+    }
+
+    /**
+     * <p>
+     * The page following a row, taking the anchor from the row's sort properties. These are read with their getters,
+     * or from their fields if there are none, and may be nested paths.
+     * </P>
+     *
+     * @param lastRow The last row of the current page
+     * @return A request for the same size and sort
+     */
+    public KeysetPageRequest following(Object lastRow) {
+        Assert.notNull(lastRow, "Last row must not be 'null'.");
+
+        BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(lastRow);
+        List<Object> values = new ArrayList<>();
+        for (Order order : getSort()) {
+            PropertyAccessor accessor = beanWrapper.isReadableProperty(order.getProperty()) ? beanWrapper
+                    : PropertyAccessorFactory.forDirectFieldAccess(lastRow);
+            try {
+                values.add(accessor.getPropertyValue(order.getProperty()));
+            } catch (BeansException e) {
+                throw new IllegalArgumentException(
+                        String.format("Cannot read sort property '%s' of '%s'", order.getProperty(), lastRow), e);
+            }
+        }
+        return after(values.toArray());
+    }
+
+    @Override
+    public Sort getSort() {
+        return this.sort;
+    }
+
+    /**
+     * <p>
+     * The second page by offset, ignoring any anchor, as a {@code Pageable} has no row to follow. Use
+     * {@link #following(Object)} for the next page by keyset.
+     * </P>
+     */
+    @Override
+    public Pageable next() {
+        return PageRequest.of(getPageNumber() + 1, getPageSize(), this.sort);
+    }
+
+    /**
+     * <p>
+     * Every page is page zero, so there is none before.
+     * </P>
+     */
+    @Override
+    public Pageable previous() {
+        return this;
+    }
+
+    /**
+     * @return The first page, with no anchor
+     */
+    @Override
+    public Pageable first() {
+        return first(getPageSize(), this.sort);
+    }
+
+    public Object[] getAnchor() {
+        return anchor.clone();
+    }
+
+    /**
+     * <p>
+     * Rows strictly after the anchor in the sort order, or {@code null} for the first page.
+     * </P>
+     * <p>
+     * For a sort on {@code a} ascending then {@code b} descending, this is
+     * {@code a > :a OR (a = :a AND b < :b)}.
+     * </P>
+     *
+     * @return A predicate, or {@code null}
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Predicate<?, ?> toPredicate() {
+        if (this.anchor.length == 0) {
+            return null;
+        }
+
+        Order[] orders = getSort().stream().toArray(Order[]::new);
+
+        Predicate<?, ?> result = null;
+        for (int i = orders.length - 1; i >= 0; i--) {
+            String property = orders[i].getProperty();
+            Comparable value = (Comparable) this.anchor[i];
+
+            Predicate<?, ?> beyond = orders[i].isAscending() ? Predicates.greaterThan(property, value)
+                    : Predicates.lessThan(property, value);
+
+            if (result == null) {
+                result = beyond;
+            } else {
+                result = Predicates.or(beyond, Predicates.and(Predicates.equal(property, value), result));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * <p>
+     * Restrict a query to the rows after the anchor, with the query's own conditions.
+     * </P>
+     *
+     * @param query Query from the method name or annotation
+     * @return The same query if there is no anchor, otherwise a replacement with the extra condition
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public KeyValueQuery<?> restrict(KeyValueQuery<?> query) {
+        Predicate keyset = toPredicate();
+        if (keyset == null) {
+            return query;
+        }
+
+        Object criteria = query.getCriteria();
+        Predicate<?, ?> combined;
+        if (criteria == null) {
+            combined = keyset;
+        } else if (criteria instanceof PagingPredicate) {
+            PagingPredicate pagingPredicate = (PagingPredicate) criteria;
+            Predicate inner = pagingPredicate.getPredicate();
+            combined = new PagingPredicate(inner == null ? keyset : Predicates.and(inner, keyset),
+                    pagingPredicate.getComparator(), pagingPredicate.getPageSize());
+        } else {
+            combined = Predicates.and((Predicate) criteria, keyset);
+        }
+
+        KeyValueQuery<Predicate<?, ?>> result = new KeyValueQuery<>(combined);
+        result.setSort(query.getSort());
+        result.setOffset(query.getOffset());
+        result.setRows(query.getRows());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof KeysetPageRequest) || !super.equals(obj)) {
+            return false;
+        }
+        KeysetPageRequest that = (KeysetPageRequest) obj;
+        return this.sort.equals(that.sort) && Arrays.equals(this.anchor, that.anchor);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * super.hashCode() + this.sort.hashCode()) + Arrays.hashCode(this.anchor);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Keyset page request [size: %d, sort: %s, anchor: %s]", getPageSize(), getSort(),
+                Arrays.toString(this.anchor));
+    }
+}
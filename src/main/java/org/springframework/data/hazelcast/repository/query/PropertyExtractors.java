@@ -0,0 +1,143 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.query.impl.getters.ReflectionHelper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Read a property of an object through a {@link MethodHandle}, found once per class and property rather than by
+ * reflection on every read.
+ * </P>
+ * <p>
+ * The property is read with a public {@code get} or {@code is} method if there is one, otherwise from the field of
+ * that name. A dotted path such as {@code address.city} reads each step in turn, with the extractor for each step
+ * found for the class of the value reached, and is {@code null} if any step is. Anything else, such as Hazelcast's
+ * {@code __key} or {@code [any]} syntax, is left to Hazelcast's {@code ReflectionHelper}.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+final class PropertyExtractors {
+
+    private static final MethodType OBJECT_TO_OBJECT = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<String, Function<Object, Object>>> EXTRACTORS =
+            new ClassValue<ConcurrentMap<String, Function<Object, Object>>>() {
+                @Override
+                protected ConcurrentMap<String, Function<Object, Object>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private PropertyExtractors() {
+    }
+
+    /**
+     * <p>
+     * The extractor for a property of a class, created on first use.
+     * </P>
+     *
+     * @param type     The class of the objects to read
+     * @param property A property name
+     * @return Reads the property, failing with an unchecked exception
+     */
+    static Function<Object, Object> forProperty(Class<?> type, String property) {
+        return EXTRACTORS.get(type).computeIfAbsent(property, name -> create(type, name));
+    }
+
+    private static Function<Object, Object> create(Class<?> type, String property) {
+        int dot = property.indexOf('.');
+        if (dot > 0 && dot < property.length() - 1 && property.indexOf('[') < 0) {
+            Function<Object, Object> first = forProperty(type, property.substring(0, dot));
+            String rest = property.substring(dot + 1);
+            return target -> {
+                Object value = first.apply(target);
+                return value == null ? null : forProperty(value.getClass(), rest).apply(value);
+            };
+        }
+
+        MethodHandle handle = findHandle(type, property);
+
+        if (handle == null) {
+            return target -> {
+                try {
+                    return ReflectionHelper.extractValue(target, property);
+                } catch (Exception e) {
+                    throw new IllegalArgumentException(
+                            String.format("Cannot read '%s' from '%s'", property, target), e);
+                }
+            };
+        }
+
+        MethodHandle getter = handle.asType(OBJECT_TO_OBJECT);
+        return target -> {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(String.format("Cannot read '%s' from '%s'", property, target), t);
+            }
+        };
+    }
+
+    private static MethodHandle findHandle(Class<?> type, String property) {
+        if (property.isEmpty() || !Character.isJavaIdentifierStart(property.charAt(0))) {
+            return null;
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        String suffix = property.substring(0, 1).toUpperCase(Locale.ROOT) + property.substring(1);
+
+        for (String prefix : new String[]{"get", "is"}) {
+            try {
+                Method method = type.getMethod(prefix + suffix);
+                if (method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())) {
+                    method.setAccessible(true);
+                    return lookup.unreflect(method);
+                }
+            } catch (NoSuchMethodException | IllegalAccessException | SecurityException ignore) {
+                // Try the next form
+            }
+        }
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(property);
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    return lookup.unreflectGetter(field);
+                }
+            } catch (NoSuchFieldException | IllegalAccessException | SecurityException ignore) {
+                // Try the superclass
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.TruePredicate;
+import com.hazelcast.query.impl.FalsePredicate;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * A query condition as built by {@link HazelcastQueryCreator}, before it becomes a Hazelcast {@link Predicate}.
+ * </P>
+ * <p>
+ * Hazelcast predicates do not reveal their attributes and values, so the conditions are kept in this form until
+ * {@link QueryTermOptimizer} has simplified them. Equality and {@code IN} keep their attribute and values so they can
+ * be merged, other conditions are held as the predicate they become. Each term has a cost, an estimate of how
+ * expensive it is to evaluate relative to the others, so cheaper terms can be evaluated first.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public final class QueryTerm {
+
+    /**
+     * <p>
+     * Matches everything.
+     * </P>
+     */
+    public static final QueryTerm TRUE = new QueryTerm(Kind.TRUE, null, Collections.emptyList(), null,
+            Collections.emptyList(), 0);
+
+    /**
+     * <p>
+     * Matches nothing.
+     * </P>
+     */
+    public static final QueryTerm FALSE = new QueryTerm(Kind.FALSE, null, Collections.emptyList(), null,
+            Collections.emptyList(), 0);
+
+    enum Kind {
+        AND, OR, EQUAL, IN, PREDICATE, TRUE, FALSE
+    }
+
+    private final Kind kind;
+    private final String attribute;
+    private final List<Comparable<?>> values;
+    private final Predicate<?, ?> predicate;
+    private final List<QueryTerm> terms;
+    private final int cost;
+
+    private QueryTerm(Kind kind, String attribute, List<Comparable<?>> values, Predicate<?, ?> predicate,
+                      List<QueryTerm> terms, int cost) {
+        this.kind = kind;
+        this.attribute = attribute;
+        this.values = values;
+        this.predicate = predicate;
+        this.terms = terms;
+        this.cost = cost;
+    }
+
+    /**
+     * @param attribute The attribute to compare
+     * @param value     Not {@code null}, use {@link #of} for a null check
+     * @param cost      Relative cost of evaluating
+     * @return {@code attribute = value}
+     */
+    public static QueryTerm equal(String attribute, Comparable<?> value, int cost) {
+        Assert.hasText(attribute, "Attribute must not be empty.");
+        Assert.notNull(value, "Value must not be 'null'.");
+        return new QueryTerm(Kind.EQUAL, attribute, Collections.singletonList(value), null,
+                Collections.emptyList(), cost);
+    }
+
+    /**
+     * @param attribute The attribute to compare
+     * @param values    None may be {@code null}, matches nothing if empty
+     * @param cost      Relative cost of evaluating
+     * @return {@code attribute IN (values)}
+     */
+    public static QueryTerm in(String attribute, Comparable<?>[] values, int cost) {
+        Assert.hasText(attribute, "Attribute must not be empty.");
+        Assert.noNullElements(values, "Values must not be 'null'.");
+        return new QueryTerm(Kind.IN, attribute, Collections.unmodifiableList(new ArrayList<>(Arrays.asList(values))),
+                null, Collections.emptyList(), cost);
+    }
+
+    /**
+     * @param predicate Any other condition
+     * @param cost      Relative cost of evaluating
+     * @return The predicate as a term
+     */
+    public static QueryTerm of(Predicate<?, ?> predicate, int cost) {
+        Assert.notNull(predicate, "Predicate must not be 'null'.");
+        return new QueryTerm(Kind.PREDICATE, null, Collections.emptyList(), predicate, Collections.emptyList(), cost);
+    }
+
+    public static QueryTerm and(QueryTerm... terms) {
+        return junction(Kind.AND, Arrays.asList(terms));
+    }
+
+    public static QueryTerm or(QueryTerm... terms) {
+        return junction(Kind.OR, Arrays.asList(terms));
+    }
+
+    static QueryTerm junction(Kind kind, List<QueryTerm> terms) {
+        Assert.noNullElements(terms.toArray(), "Terms must not be 'null'.");
+        int cost = 0;
+        for (QueryTerm term : terms) {
+            cost = Math.max(cost, term.cost);
+        }
+        return new QueryTerm(kind, null, Collections.emptyList(), null,
+                Collections.unmodifiableList(new ArrayList<>(terms)), cost);
+    }
+
+    Kind getKind() {
+        return this.kind;
+    }
+
+    String getAttribute() {
+        return this.attribute;
+    }
+
+    List<Comparable<?>> getValues() {
+        return this.values;
+    }
+
+    List<QueryTerm> getTerms() {
+        return this.terms;
+    }
+
+    public int getCost() {
+        return this.cost;
+    }
+
+    /**
+     * <p>
+     * The Hazelcast predicate for this term, as it stands.
+     * </P>
+     *
+     * @return A predicate
+     */
+    @SuppressWarnings("rawtypes")
+    public Predicate<?, ?> toPredicate() {
+        switch (this.kind) {
+            case AND:
+            case OR:
+                if (this.terms.size() == 1) {
+                    return this.terms.get(0).toPredicate();
+                }
+                Predicate[] predicates = new Predicate[this.terms.size()];
+                for (int i = 0; i < predicates.length; i++) {
+                    predicates[i] = this.terms.get(i).toPredicate();
+                }
+                return this.kind == Kind.AND ? Predicates.and(predicates) : Predicates.or(predicates);
+            case EQUAL:
+                return Predicates.equal(this.attribute, this.values.get(0));
+            case IN:
+                if (this.values.size() == 1) {
+                    return Predicates.equal(this.attribute, this.values.get(0));
+                }
+                return Predicates.in(this.attribute, this.values.toArray(new Comparable<?>[0]));
+            case TRUE:
+                return TruePredicate.INSTANCE;
+            case FALSE:
+                return FalsePredicate.INSTANCE;
+            case PREDICATE:
+            default:
+                return this.predicate;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.toPredicate());
+    }
+}
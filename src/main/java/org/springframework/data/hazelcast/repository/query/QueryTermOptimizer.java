@@ -0,0 +1,209 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import org.springframework.data.hazelcast.repository.query.QueryTerm.Kind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Rewrite a {@link QueryTerm} into an equivalent one that is cheaper to evaluate.
+ * </P>
+ * <OL>
+ * <LI>Nested {@code AND} and {@code OR} are flattened, {@code (a AND b) AND c} becomes {@code a AND b AND c}.</LI>
+ * <LI>Terms that are always true or always false are folded away, {@code a AND false} becomes {@code false}.</LI>
+ * <LI>Equalities and {@code IN} on the same attribute are merged, under {@code OR} into one {@code IN} and under
+ * {@code AND} into the values they have in common. None in common is a contradiction, which matches nothing.</LI>
+ * <LI>Terms are ordered cheapest first, so indexed and selective terms are evaluated before the others.</LI>
+ * </OL>
+ * <p>
+ * Values are only intersected if they are of the same class and the attribute is single-valued, as Hazelcast converts
+ * values to the attribute's type before comparing, and a multi-valued attribute may equal several values at once.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+final class QueryTermOptimizer {
+
+    private static final Comparator<QueryTerm> CHEAPEST_FIRST = Comparator.comparingInt(QueryTerm::getCost);
+
+    private QueryTermOptimizer() {
+    }
+
+    /**
+     * @param term As built from the query method
+     * @return Possibly the same term
+     */
+    static QueryTerm optimize(QueryTerm term) {
+        switch (term.getKind()) {
+            case AND:
+            case OR:
+                return optimizeJunction(term.getKind(), term.getTerms());
+            case IN:
+                return term.getValues().isEmpty() ? QueryTerm.FALSE : term;
+            default:
+                return term;
+        }
+    }
+
+    private static QueryTerm optimizeJunction(Kind kind, List<QueryTerm> terms) {
+        QueryTerm absorbing = (kind == Kind.AND ? QueryTerm.FALSE : QueryTerm.TRUE);
+        QueryTerm neutral = (kind == Kind.AND ? QueryTerm.TRUE : QueryTerm.FALSE);
+
+        List<QueryTerm> flattened = new ArrayList<>();
+        for (QueryTerm term : terms) {
+            QueryTerm optimized = optimize(term);
+            if (optimized == absorbing) {
+                return absorbing;
+            }
+            if (optimized == neutral) {
+                continue;
+            }
+            if (optimized.getKind() == kind) {
+                flattened.addAll(optimized.getTerms());
+            } else {
+                flattened.add(optimized);
+            }
+        }
+
+        List<QueryTerm> merged = (kind == Kind.AND ? intersectValues(flattened) : unionValues(flattened));
+        if (merged == null) {
+            return absorbing;
+        }
+        if (merged.isEmpty()) {
+            return neutral;
+        }
+        if (merged.size() == 1) {
+            return merged.get(0);
+        }
+
+        merged.sort(CHEAPEST_FIRST);
+        return QueryTerm.junction(kind, merged);
+    }
+
+    /* a = 1 OR a = 2 OR a IN (3, 4) becomes a IN (1, 2, 3, 4), in the place of the first.
+     */
+    private static List<QueryTerm> unionValues(List<QueryTerm> terms) {
+        Map<String, Set<Comparable<?>>> valuesByAttribute = new LinkedHashMap<>();
+        Map<String, Integer> costByAttribute = new LinkedHashMap<>();
+        List<Object> order = new ArrayList<>();
+
+        for (QueryTerm term : terms) {
+            if (isValues(term)) {
+                if (!valuesByAttribute.containsKey(term.getAttribute())) {
+                    valuesByAttribute.put(term.getAttribute(), new LinkedHashSet<>());
+                    order.add(term.getAttribute());
+                }
+                valuesByAttribute.get(term.getAttribute()).addAll(term.getValues());
+                costByAttribute.merge(term.getAttribute(), term.getCost(), Math::max);
+            } else {
+                order.add(term);
+            }
+        }
+
+        List<QueryTerm> result = new ArrayList<>();
+        for (Object item : order) {
+            if (item instanceof String) {
+                result.add(valuesTerm((String) item, valuesByAttribute.get(item), costByAttribute.get(item)));
+            } else {
+                result.add((QueryTerm) item);
+            }
+        }
+        return result;
+    }
+
+    /* a IN (1, 2) AND a = 2 becomes a = 2, and a = 1 AND a = 2 matches nothing.
+     * Returns null for a contradiction.
+     */
+    private static List<QueryTerm> intersectValues(List<QueryTerm> terms) {
+        Map<String, Set<Comparable<?>>> valuesByAttribute = new LinkedHashMap<>();
+        Map<String, Integer> costByAttribute = new LinkedHashMap<>();
+        List<Object> order = new ArrayList<>();
+
+        for (QueryTerm term : terms) {
+            if (isValues(term) && isSingleValued(term.getAttribute()) && isSameClass(term.getValues())) {
+                Set<Comparable<?>> values = valuesByAttribute.get(term.getAttribute());
+                if (values == null) {
+                    valuesByAttribute.put(term.getAttribute(), new LinkedHashSet<>(term.getValues()));
+                    order.add(term.getAttribute());
+                } else if (isSameClass(values, term.getValues())) {
+                    values.retainAll(term.getValues());
+                    if (values.isEmpty()) {
+                        return null;
+                    }
+                } else {
+                    order.add(term);
+                    continue;
+                }
+                costByAttribute.merge(term.getAttribute(), term.getCost(), Math::min);
+            } else {
+                order.add(term);
+            }
+        }
+
+        List<QueryTerm> result = new ArrayList<>();
+        for (Object item : order) {
+            if (item instanceof String) {
+                result.add(valuesTerm((String) item, valuesByAttribute.get(item), costByAttribute.get(item)));
+            } else {
+                result.add((QueryTerm) item);
+            }
+        }
+        return result;
+    }
+
+    private static QueryTerm valuesTerm(String attribute, Set<Comparable<?>> values, int cost) {
+        if (values.size() == 1) {
+            return QueryTerm.equal(attribute, values.iterator().next(), cost);
+        }
+        return QueryTerm.in(attribute, values.toArray(new Comparable<?>[0]), cost);
+    }
+
+    private static boolean isValues(QueryTerm term) {
+        return term.getKind() == Kind.EQUAL || term.getKind() == Kind.IN;
+    }
+
+    private static boolean isSingleValued(String attribute) {
+        return attribute.indexOf('[') < 0 || attribute.startsWith(LowerCaseValueExtractor.ATTRIBUTE_NAME + "[")
+                || attribute.startsWith(ReversedValueExtractor.ATTRIBUTE_NAME + "[");
+    }
+
+    private static boolean isSameClass(Iterable<Comparable<?>> values) {
+        return isSameClass(values, values);
+    }
+
+    private static boolean isSameClass(Iterable<Comparable<?>> values, Iterable<Comparable<?>> others) {
+        Class<?> type = null;
+        for (Iterable<Comparable<?>> iterable : Arrays.asList(values, others)) {
+            for (Comparable<?> value : iterable) {
+                if (type == null) {
+                    type = value.getClass();
+                } else if (type != value.getClass()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import com.hazelcast.query.extractor.ValueCollector;
+import com.hazelcast.query.extractor.ValueExtractor;
+import org.springframework.data.hazelcast.Indexed;
+
+/**
+ * <p>
+ * A custom attribute holding the reversed value of a property, so it can have an ordered index and a suffix becomes
+ * a range of that index, as a prefix does for the property itself.
+ * </P>
+ * <p>
+ * The attribute is registered in a map's configuration with a {@code MapAttributeConfig} named
+ * {@value #ATTRIBUTE_NAME} using this class as the extractor, and the property is the attribute's argument. For
+ * instance, {@code reversed_[email]} is the reversed {@code email} property. This is done automatically for
+ * properties marked {@link Indexed#reversed()} when the repository is created, provided the map does not exist
+ * yet. The class must be on the classpath of the members.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class ReversedValueExtractor extends ValueExtractor<Object, String> {
+
+    /**
+     * <p>
+     * The name of the custom attribute in the map's configuration.
+     * </P>
+     */
+    public static final String ATTRIBUTE_NAME = "reversed_";
+
+    /* Hazelcast declares the collector raw, it is given the extracted strings.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public void extract(Object target, String argument, ValueCollector collector) {
+        ValueCollector<String> values = collector;
+        Object value = (target == null ? null : PropertyExtractors.forProperty(target.getClass(), argument)
+                .apply(target));
+        values.addObject(reverse(value));
+    }
+
+    /**
+     * <p>
+     * The attribute to query or index for the reversed value of a property.
+     * </P>
+     *
+     * @param property A property, or dotted path to one
+     * @return For example {@code reversed_[email]}
+     */
+    public static String attributeFor(String property) {
+        return ATTRIBUTE_NAME + "[" + property + "]";
+    }
+
+    /**
+     * <p>
+     * Reverse a value the same way the attribute is extracted, for comparing with it.
+     * </P>
+     *
+     * @param value Possibly {@code null}
+     * @return A string, or {@code null}
+     */
+    public static String reverse(Object value) {
+        return value == null ? null : new StringBuilder(value.toString()).reverse().toString();
+    }
+}
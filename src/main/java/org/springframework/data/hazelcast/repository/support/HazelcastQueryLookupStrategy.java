@@ -81,10 +81,10 @@ public class HazelcastQueryLookupStrategy implements QueryLookupStrategy {
      */
     public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory projectionFactory, NamedQueries namedQueries) {
 
-        HazelcastQueryMethod queryMethod = new HazelcastQueryMethod(method, metadata, projectionFactory);
+        HazelcastQueryMethod queryMethod = this.createQueryMethod(method, metadata, projectionFactory);
 
         if (queryMethod.hasAnnotatedQuery()) {
-            return new StringBasedHazelcastRepositoryQuery(queryMethod);
+            return new StringBasedHazelcastRepositoryQuery(queryMethod, this.keyValueOperations);
 
         }
 
@@ -92,4 +92,19 @@ public class HazelcastQueryLookupStrategy implements QueryLookupStrategy {
                 this.queryCreator);
     }
 
+    /**
+     * <p>
+     * Describe a query method, for {@link #resolveQuery} to choose how it is answered.
+     * </P>
+     *
+     * @param method            The query method
+     * @param metadata          Of the repository
+     * @param projectionFactory For projections of the domain class
+     * @return A {@link HazelcastQueryMethod}
+     */
+    protected HazelcastQueryMethod createQueryMethod(Method method, RepositoryMetadata metadata,
+                                                     ProjectionFactory projectionFactory) {
+        return new HazelcastQueryMethod(method, metadata, projectionFactory);
+    }
+
 }
@@ -17,7 +17,6 @@ package org.springframework.data.hazelcast.repository.support;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.hazelcast.repository.query.Query;
-import org.springframework.data.keyvalue.annotation.KeySpace;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
@@ -47,11 +46,4 @@ public class HazelcastQueryMethod extends QueryMethod {
         return (StringUtils.hasText(queryString) ? queryString : null);
     }
 
-    String getKeySpace() {
-        KeySpace keySpace = getEntityInformation().getJavaType().getAnnotation(KeySpace.class);
-        String queryString = (keySpace != null ? (String) AnnotationUtils.getValue(keySpace) : null);
-        return (StringUtils.hasText(queryString) ? queryString : null);
-
-    }
-
 }
@@ -15,14 +15,31 @@
  */
 package org.springframework.data.hazelcast.repository.support;
 
+import com.hazelcast.config.MapAttributeConfig;
+import org.springframework.data.hazelcast.HazelcastKeyValueAdapter;
+import org.springframework.data.hazelcast.Indexed;
+import org.springframework.data.hazelcast.repository.query.LowerCaseValueExtractor;
+import org.springframework.data.hazelcast.repository.query.ReversedValueExtractor;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.repository.query.SpelQueryCreator;
 import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactory;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.querydsl.QuerydslUtils;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * <p>
@@ -30,7 +47,12 @@ import java.util.Optional;
  * </P>
  * <p>
  * The purpose of extending is to ensure that the {@link #getQueryLookupStrategy} method returns a
- * {@link HazelcastQueryLookupStrategy} rather than the default.
+ * {@link HazelcastQueryLookupStrategy} rather than the default, and that repositories are backed by
+ * {@link SimpleHazelcastRepository}.
+ * </P>
+ * <p>
+ * When a repository is created, properties of its domain class marked {@link Indexed} are indexed in the domain
+ * class's map.
  * </P>
  * <p>
  * The end goal of this bean is for {@link org.springframework.data.hazelcast.repository.query.HazelcastPartTreeQuery} to be used for query preparation.
@@ -63,6 +85,110 @@ public class HazelcastRepositoryFactory extends KeyValueRepositoryFactory {
         this.queryCreator = queryCreator;
     }
 
+    /**
+     * <p>
+     * Use {@link SimpleHazelcastRepository} for the implementation, so Hazelcast bulk operations are available, unless
+     * a Querydsl repository is requested.
+     * </P>
+     */
+    @Override
+    protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+        if (QuerydslUtils.QUERY_DSL_PRESENT
+                && QuerydslPredicateExecutor.class.isAssignableFrom(metadata.getRepositoryInterface())) {
+            return super.getRepositoryBaseClass(metadata);
+        }
+        return SimpleHazelcastRepository.class;
+    }
+
+    /**
+     * <p>
+     * Add the indexes the domain class asks for before creating the repository.
+     * </P>
+     */
+    @Override
+    protected Object getTargetRepository(RepositoryInformation repositoryInformation) {
+        this.addIndexes(repositoryInformation.getDomainType());
+        return super.getTargetRepository(repositoryInformation);
+    }
+
+    /**
+     * <p>
+     * Index the properties of a domain class marked {@link Indexed}, including those of embedded objects, in the
+     * domain class's keyspace. Nothing is done if the adapter is not for Hazelcast.
+     * </P>
+     * <p>
+     * The custom attributes for lower-cased and reversed copies are configured first, all together, as the map's
+     * configuration cannot change once indexing creates the map.
+     * </P>
+     *
+     * @param domainType The repository's domain class
+     */
+    private void addIndexes(Class<?> domainType) {
+        MappingContext<?, ?> mappingContext = this.keyValueOperations.getMappingContext();
+        PersistentEntity<?, ?> entity = mappingContext.getRequiredPersistentEntity(domainType);
+        if (!(entity instanceof KeyValuePersistentEntity)) {
+            return;
+        }
+        String keyspace = ((KeyValuePersistentEntity<?, ?>) entity).getKeySpace();
+
+        Map<String, Indexed> indexes = new LinkedHashMap<>();
+        Set<Class<?>> visited = new HashSet<>();
+        visited.add(domainType);
+        findIndexes(mappingContext, entity, "", indexes, visited);
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        Map<String, MapAttributeConfig> customAttributes = new LinkedHashMap<>();
+        Map<String, Boolean> attributeIndexes = new LinkedHashMap<>();
+        indexes.forEach((property, indexed) -> {
+            attributeIndexes.put(property, indexed.ordered());
+            if (indexed.ignoreCase()) {
+                customAttributes.put(LowerCaseValueExtractor.ATTRIBUTE_NAME, new MapAttributeConfig(
+                        LowerCaseValueExtractor.ATTRIBUTE_NAME, LowerCaseValueExtractor.class.getName()));
+                attributeIndexes.put(LowerCaseValueExtractor.attributeFor(property), indexed.ordered());
+            }
+            if (indexed.reversed()) {
+                customAttributes.put(ReversedValueExtractor.ATTRIBUTE_NAME, new MapAttributeConfig(
+                        ReversedValueExtractor.ATTRIBUTE_NAME, ReversedValueExtractor.class.getName()));
+                attributeIndexes.put(ReversedValueExtractor.attributeFor(property), true);
+            }
+        });
+
+        this.keyValueOperations.execute(adapter -> {
+            if (adapter instanceof HazelcastKeyValueAdapter) {
+                HazelcastKeyValueAdapter hazelcastKeyValueAdapter = (HazelcastKeyValueAdapter) adapter;
+                if (!customAttributes.isEmpty()) {
+                    hazelcastKeyValueAdapter.addCustomAttributes(customAttributes.values(), keyspace);
+                }
+                attributeIndexes.forEach((attribute, ordered) -> hazelcastKeyValueAdapter
+                        .addIndex(attribute, ordered, keyspace));
+            }
+            return null;
+        });
+    }
+
+    private static void findIndexes(MappingContext<?, ?> mappingContext, PersistentEntity<?, ?> entity, String prefix,
+                                    Map<String, Indexed> indexes, Set<Class<?>> visited) {
+        for (PersistentProperty<?> property : entity) {
+            String path = prefix + property.getName();
+
+            Indexed indexed = property.findAnnotation(Indexed.class);
+            if (indexed != null) {
+                indexes.put(path, indexed);
+            }
+
+            if (property.isEntity() && !property.isCollectionLike() && !property.isMap()
+                    && visited.add(property.getActualType())) {
+                PersistentEntity<?, ?> embedded = mappingContext.getPersistentEntity(property.getActualType());
+                if (embedded != null) {
+                    findIndexes(mappingContext, embedded, path + ".", indexes, visited);
+                }
+                visited.remove(property.getActualType());
+            }
+        }
+    }
+
     /**
      * <p>
      * Ensure the mechanism for query evaluation is Hazelcast specific, as the original
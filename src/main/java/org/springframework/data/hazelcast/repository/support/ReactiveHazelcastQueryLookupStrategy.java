@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.support;
+
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.EvaluationContextProvider;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+
+import java.lang.reflect.Method;
+
+/**
+ * <p>
+ * Resolves queries as {@link HazelcastQueryLookupStrategy} does, wrapping each in a
+ * {@link ReactiveHazelcastRepositoryQuery} to publish its result.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class ReactiveHazelcastQueryLookupStrategy extends HazelcastQueryLookupStrategy {
+
+    /**
+     * @param key                       Not used
+     * @param evaluationContextProvider For evaluation of query expressions
+     * @param keyValueOperations        Bean to use for Key/Value operations on Hazelcast repos
+     * @param queryCreator              Likely to be {@link org.springframework.data.hazelcast.repository.query.HazelcastQueryCreator}
+     */
+    public ReactiveHazelcastQueryLookupStrategy(QueryLookupStrategy.Key key,
+                                                EvaluationContextProvider evaluationContextProvider,
+                                                KeyValueOperations keyValueOperations,
+                                                Class<? extends AbstractQueryCreator<?, ?>> queryCreator) {
+        super(key, evaluationContextProvider, keyValueOperations, queryCreator);
+    }
+
+    @Override
+    public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory projectionFactory,
+                                        NamedQueries namedQueries) {
+        return new ReactiveHazelcastRepositoryQuery(super.resolveQuery(method, metadata, projectionFactory,
+                namedQueries));
+    }
+
+    @Override
+    protected HazelcastQueryMethod createQueryMethod(Method method, RepositoryMetadata metadata,
+                                                     ProjectionFactory projectionFactory) {
+        return new ReactiveHazelcastQueryMethod(method, metadata, projectionFactory);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.support;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.util.ReactiveWrappers;
+
+import java.lang.reflect.Method;
+
+/**
+ * <p>
+ * A query method of a {@link org.springframework.data.hazelcast.repository.ReactiveHazelcastRepository}.
+ * </P>
+ * <p>
+ * A method returning {@code Flux} is run as a {@link #isStreamQuery() stream query}, so matches are fetched lazily
+ * and can be emitted as they arrive. A method returning {@code Mono} is run as for the type it wraps. As the paging
+ * types cannot be returned reactively, a {@link org.springframework.data.domain.Pageable Pageable} parameter is not
+ * supported, but a {@link org.springframework.data.domain.Sort Sort} parameter or a limit in the method name is.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class ReactiveHazelcastQueryMethod extends HazelcastQueryMethod {
+
+    private final boolean multiValue;
+    private final boolean singleValue;
+    private final boolean noValue;
+
+    public ReactiveHazelcastQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
+        super(method, metadata, factory);
+        this.multiValue = ReactiveWrappers.isMultiValueType(method.getReturnType());
+        this.singleValue = ReactiveWrappers.isSingleValueType(method.getReturnType());
+        this.noValue = (getReturnedObjectType() == Void.class);
+    }
+
+    /**
+     * @return {@code true} if the method returns a {@code Flux} or other publisher of several values
+     */
+    public boolean isMultiValueQuery() {
+        return this.multiValue;
+    }
+
+    /**
+     * @return {@code true} if the method returns {@code Mono<Void>}, to signal only completion
+     */
+    public boolean isNoValueQuery() {
+        return this.noValue;
+    }
+
+    /**
+     * <p>
+     * Decided here rather than by {@link org.springframework.data.repository.util.QueryExecutionConverters
+     * QueryExecutionConverters}, which can match {@code Mono} against its {@code Publisher} interface and so treat
+     * a single value as a collection.
+     * </P>
+     */
+    @Override
+    public boolean isCollectionQuery() {
+        return !this.singleValue && super.isCollectionQuery();
+    }
+
+    @Override
+    public boolean isStreamQuery() {
+        return this.multiValue || super.isStreamQuery();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.support;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.EvaluationContextProvider;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+import org.springframework.util.ClassUtils;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * A factory to build {@link org.springframework.data.hazelcast.repository.ReactiveHazelcastRepository} instances,
+ * backed by {@link SimpleReactiveHazelcastRepository}, with query methods resolved by
+ * {@link ReactiveHazelcastQueryLookupStrategy}.
+ * </P>
+ * <p>
+ * Indexes are added from the domain class as for {@link HazelcastRepositoryFactory}.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class ReactiveHazelcastRepositoryFactory extends HazelcastRepositoryFactory {
+
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+            ReactiveHazelcastRepositoryFactory.class.getClassLoader());
+
+    private final KeyValueOperations keyValueOperations;
+    private final Class<? extends AbstractQueryCreator<?, ?>> queryCreator;
+
+    /* Capture KeyValueOperations and QueryCreator objects after passing to super.
+     */
+    public ReactiveHazelcastRepositoryFactory(KeyValueOperations keyValueOperations,
+                                              Class<? extends AbstractQueryCreator<?, ?>> queryCreator) {
+
+        super(keyValueOperations, queryCreator);
+
+        this.keyValueOperations = keyValueOperations;
+        this.queryCreator = queryCreator;
+    }
+
+    /**
+     * <p>
+     * Project Reactor is an optional dependency, so is checked for before it is needed.
+     * </P>
+     */
+    @Override
+    protected void validate(RepositoryMetadata repositoryMetadata) {
+        if (!REACTOR_PRESENT) {
+            throw new InvalidDataAccessApiUsageException(String.format(
+                    "Cannot implement repository %s without Project Reactor.",
+                    repositoryMetadata.getRepositoryInterface().getName()));
+        }
+        super.validate(repositoryMetadata);
+    }
+
+    @Override
+    protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+        return SimpleReactiveHazelcastRepository.class;
+    }
+
+    @Override
+    protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.Key key,
+                                                                   EvaluationContextProvider evaluationContextProvider) {
+        return Optional.of(new ReactiveHazelcastQueryLookupStrategy(key, evaluationContextProvider,
+                this.keyValueOperations, this.queryCreator));
+    }
+
+}
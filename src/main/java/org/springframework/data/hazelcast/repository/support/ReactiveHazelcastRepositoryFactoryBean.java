@@ -0,0 +1,60 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.support;
+
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ * Return {@link ReactiveHazelcastRepositoryFactory} from
+ * {@link #createRepositoryFactory(KeyValueOperations, Class, Class)}, the default for
+ * {@link org.springframework.data.hazelcast.repository.config.EnableReactiveHazelcastRepositories
+ * &#64;EnableReactiveHazelcastRepositories}.
+ * </P>
+ *
+ * @param <T>  Repository type, {@link org.springframework.data.hazelcast.repository.ReactiveHazelcastRepository}
+ * @param <S>  Domain object class
+ * @param <ID> Domain object key, super expects {@link Serializable}
+ * @author Neil Stevenson
+ */
+public class ReactiveHazelcastRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+        extends HazelcastRepositoryFactoryBean<T, S, ID> {
+
+    /**
+     * @param repositoryInterface must not be {@literal null}.
+     */
+    public ReactiveHazelcastRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    /**
+     * @param operations
+     * @param queryCreator         Creator
+     * @param repositoryQueryType, not used
+     * @return A {@link ReactiveHazelcastRepositoryFactory}
+     */
+    @Override
+    protected KeyValueRepositoryFactory createRepositoryFactory(KeyValueOperations operations, Class<? extends AbstractQueryCreator<?, ?>> queryCreator, Class<? extends RepositoryQuery> repositoryQueryType) {
+        return new ReactiveHazelcastRepositoryFactory(operations, queryCreator);
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.support;
+
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Runs a derived or {@link org.springframework.data.hazelcast.repository.query.Query @Query} method of a
+ * {@link org.springframework.data.hazelcast.repository.ReactiveHazelcastRepository} when its result is subscribed to,
+ * publishing what the query it wraps returns.
+ * </P>
+ * <p>
+ * Hazelcast has no asynchronous query, so the query runs on {@link Schedulers#elastic()} rather than block the
+ * subscriber. For a {@code Flux}, matches are fetched a partition at a time as they are requested, so no thread is
+ * held while the subscriber is not asking for more, and cancelling stops the fetching.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class ReactiveHazelcastRepositoryQuery implements RepositoryQuery {
+
+    private final RepositoryQuery delegate;
+    private final ReactiveHazelcastQueryMethod queryMethod;
+
+    /**
+     * @param delegate Query for a {@link ReactiveHazelcastQueryMethod}
+     */
+    public ReactiveHazelcastRepositoryQuery(RepositoryQuery delegate) {
+        Assert.notNull(delegate, "Query must not be null!");
+        Assert.isInstanceOf(ReactiveHazelcastQueryMethod.class, delegate.getQueryMethod());
+        this.delegate = delegate;
+        this.queryMethod = (ReactiveHazelcastQueryMethod) delegate.getQueryMethod();
+    }
+
+    /**
+     * @param parameters Any parameters
+     * @return A {@code Flux} or {@code Mono} of the query result, according to the method
+     */
+    @Override
+    public Object execute(Object[] parameters) {
+        if (this.queryMethod.isMultiValueQuery()) {
+            return Flux.defer(() -> toFlux(this.delegate.execute(parameters))).subscribeOn(Schedulers.elastic());
+        }
+
+        Mono<Object> result = Mono.fromCallable(() -> this.delegate.execute(parameters))
+                .subscribeOn(Schedulers.elastic());
+        return this.queryMethod.isNoValueQuery() ? result.then() : result;
+    }
+
+    /* Close a lazy stream once it is finished with, for whatever reason.
+     */
+    private static Flux<?> toFlux(Object result) {
+        if (result instanceof Stream) {
+            Stream<?> stream = (Stream<?>) result;
+            return Flux.fromStream(stream).doFinally(signal -> stream.close());
+        }
+        if (result instanceof Iterable) {
+            return Flux.fromIterable((Iterable<?>) result);
+        }
+        return Mono.justOrEmpty(result).flux();
+    }
+
+    @Override
+    public QueryMethod getQueryMethod() {
+        return this.queryMethod;
+    }
+
+}
@@ -15,12 +15,24 @@
  */
 package org.springframework.data.hazelcast.repository.support;
 
+import org.springframework.data.hazelcast.HazelcastKeyValueAdapter;
+import org.springframework.data.hazelcast.repository.HazelcastAsyncRepository;
 import org.springframework.data.hazelcast.repository.HazelcastRepository;
+import org.springframework.data.keyvalue.core.KeyValueAdapter;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.repository.support.SimpleKeyValueRepository;
 import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.util.Assert;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <P>A concrete implementation to instantiate directly rather than allow
@@ -31,10 +43,278 @@ import java.io.Serializable;
  * @param <ID> The key of the domain object
  * @author Neil Stevenson
  */
-public class SimpleHazelcastRepository<T extends Serializable, ID extends Serializable> extends SimpleKeyValueRepository<T, ID> implements HazelcastRepository<T, ID> {
+public class SimpleHazelcastRepository<T extends Serializable, ID extends Serializable> extends SimpleKeyValueRepository<T, ID>
+        implements HazelcastRepository<T, ID>, HazelcastAsyncRepository<T, ID> {
+
+    private final EntityInformation<T, ID> entityInformation;
+    private final KeyValueOperations operations;
 
     public SimpleHazelcastRepository(EntityInformation<T, ID> metadata, KeyValueOperations operations) {
         super(metadata, operations);
+        this.entityInformation = metadata;
+        this.operations = operations;
+    }
+
+    /**
+     * <p>
+     * Save entities in bulk with {@link HazelcastKeyValueAdapter#putAll(Map, String)} rather than one
+     * {@code IMap.put} per entity.
+     * </P>
+     * <p>
+     * Entities without an id are saved individually, so the template can generate one. Entities with an id are
+     * written as a batch, which does not publish the per-entity
+     * {@link org.springframework.data.keyvalue.core.event.KeyValueEvent KeyValueEvent}s that a single save would.
+     * </P>
+     *
+     * @param entities Not null
+     * @return The entities saved, in the order given
+     */
+    @Override
+    public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
+
+        Assert.notNull(entities, "The given Iterable of entities must not be null!");
+
+        List<S> saved = new ArrayList<>();
+        Map<ID, S> batch = new LinkedHashMap<>();
+
+        for (S entity : entities) {
+            if (this.entityInformation.isNew(entity)) {
+                saved.add(save(entity));
+            } else {
+                batch.put(this.entityInformation.getRequiredId(entity), entity);
+                saved.add(entity);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            String keyspace = getKeySpace();
+            this.operations.execute(adapter -> {
+                putAll(adapter, batch, keyspace);
+                return null;
+            });
+        }
+
+        return saved;
+    }
+
+    /**
+     * <p>
+     * Find entities in bulk with {@link HazelcastKeyValueAdapter#getAll(java.util.Collection, String)} rather than one
+     * {@code IMap.get} per id.
+     * </P>
+     *
+     * @param ids Not null
+     * @return The entities found, in the order of the ids given, omitting ids that are not found
+     */
+    @Override
+    public Iterable<T> findAllById(Iterable<ID> ids) {
+
+        Assert.notNull(ids, "The given Iterable of id's must not be null!");
+
+        List<ID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+
+        if (idList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String keyspace = getKeySpace();
+        Map<?, ?> found = this.operations.execute(adapter -> getAll(adapter, idList, keyspace));
+
+        Class<T> type = this.entityInformation.getJavaType();
+        List<T> result = new ArrayList<>(idList.size());
+        for (ID id : idList) {
+            Object value = found.get(id);
+            if (type.isInstance(value)) {
+                result.add(type.cast(value));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * <p>
+     * Asynchronous {@link #findById}, see {@link HazelcastKeyValueAdapter#getAsync(Object, String)}.
+     * </P>
+     */
+    @Override
+    public CompletableFuture<Optional<T>> findByIdAsync(ID id) {
+
+        Assert.notNull(id, "The given id must not be null!");
+
+        Class<T> type = this.entityInformation.getJavaType();
+
+        return getAsync(id, getKeySpace())
+                .thenApply(value -> type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty());
+    }
+
+    /**
+     * <p>
+     * Asynchronous {@link #existsById}, see {@link HazelcastKeyValueAdapter#getAsync(Object, String)}.
+     * </P>
+     */
+    @Override
+    public CompletableFuture<Boolean> existsByIdAsync(ID id) {
+        return findByIdAsync(id).thenApply(Optional::isPresent);
+    }
+
+    /**
+     * <p>
+     * Asynchronous {@link #findAllById}, issuing one {@code IMap.getAsync} per id without waiting in between.
+     * </P>
+     */
+    @Override
+    public CompletableFuture<List<T>> findAllByIdAsync(Iterable<ID> ids) {
+
+        Assert.notNull(ids, "The given Iterable of id's must not be null!");
+
+        List<CompletableFuture<Optional<T>>> futures = new ArrayList<>();
+        for (ID id : ids) {
+            futures.add(findByIdAsync(id));
+        }
+
+        return allOf(futures).thenApply(results -> {
+            List<T> found = new ArrayList<>(results.size());
+            results.forEach(result -> result.ifPresent(found::add));
+            return found;
+        });
+    }
+
+    /**
+     * <p>
+     * Asynchronous {@link #save}, see {@link HazelcastKeyValueAdapter#putAsync(Object, Object, String)}. As with
+     * {@link #saveAll}, the write does not publish
+     * {@link org.springframework.data.keyvalue.core.event.KeyValueEvent KeyValueEvent}s.
+     * </P>
+     */
+    @Override
+    public <S extends T> CompletableFuture<S> saveAsync(S entity) {
+
+        Assert.notNull(entity, "Entity must not be null!");
+
+        if (this.entityInformation.isNew(entity)) {
+            return CompletableFuture.completedFuture(save(entity));
+        }
+
+        ID id = this.entityInformation.getRequiredId(entity);
+
+        return putAsync(id, entity, getKeySpace()).thenApply(previous -> entity);
+    }
+
+    /**
+     * <p>
+     * Asynchronous {@link #saveAll}, issuing one write per entity without waiting in between.
+     * </P>
+     */
+    @Override
+    public <S extends T> CompletableFuture<List<S>> saveAllAsync(Iterable<S> entities) {
+
+        Assert.notNull(entities, "The given Iterable of entities must not be null!");
+
+        List<CompletableFuture<S>> futures = new ArrayList<>();
+        for (S entity : entities) {
+            futures.add(saveAsync(entity));
+        }
+
+        return allOf(futures);
+    }
+
+    /**
+     * <p>
+     * Asynchronous {@link #deleteById}, see {@link HazelcastKeyValueAdapter#deleteAsync(Object, String)}.
+     * </P>
+     */
+    @Override
+    public CompletableFuture<Void> deleteByIdAsync(ID id) {
+
+        Assert.notNull(id, "The given id must not be null!");
+
+        return deleteAsync(id, getKeySpace()).thenApply(removed -> null);
+    }
+
+    /**
+     * <p>
+     * Asynchronous {@link #delete}, see {@link HazelcastKeyValueAdapter#deleteAsync(Object, String)}.
+     * </P>
+     */
+    @Override
+    public CompletableFuture<Void> deleteAsync(T entity) {
+
+        Assert.notNull(entity, "The given entity must not be null!");
+
+        return deleteByIdAsync(this.entityInformation.getRequiredId(entity));
+    }
+
+    /**
+     * <p>
+     * The keyspace of the domain class, as resolved by the mapping context.
+     * </P>
+     *
+     * @return The map name
+     */
+    protected String getKeySpace() {
+        KeyValuePersistentEntity<?, ?> entity = (KeyValuePersistentEntity<?, ?>) this.operations.getMappingContext()
+                .getRequiredPersistentEntity(this.entityInformation.getJavaType());
+        return entity.getKeySpace();
+    }
+
+    private CompletableFuture<?> getAsync(ID id, String keyspace) {
+        return this.operations.execute(adapter -> {
+            if (adapter instanceof HazelcastKeyValueAdapter) {
+                return ((HazelcastKeyValueAdapter) adapter).getAsync(id, keyspace);
+            }
+            return CompletableFuture.completedFuture(adapter.get(id, keyspace));
+        });
+    }
+
+    private CompletableFuture<?> putAsync(ID id, Object item, String keyspace) {
+        return this.operations.execute(adapter -> {
+            if (adapter instanceof HazelcastKeyValueAdapter) {
+                return ((HazelcastKeyValueAdapter) adapter).putAsync(id, item, keyspace);
+            }
+            return CompletableFuture.completedFuture(adapter.put(id, item, keyspace));
+        });
+    }
+
+    private CompletableFuture<?> deleteAsync(ID id, String keyspace) {
+        return this.operations.execute(adapter -> {
+            if (adapter instanceof HazelcastKeyValueAdapter) {
+                return ((HazelcastKeyValueAdapter) adapter).deleteAsync(id, keyspace);
+            }
+            return CompletableFuture.completedFuture(adapter.delete(id, keyspace));
+        });
+    }
+
+    private static <V> CompletableFuture<List<V>> allOf(List<CompletableFuture<V>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).thenApply(ignored -> {
+            List<V> results = new ArrayList<>(futures.size());
+            futures.forEach(future -> results.add(future.join()));
+            return results;
+        });
+    }
+
+    private Map<?, ?> getAll(KeyValueAdapter adapter, List<ID> ids, String keyspace) {
+        if (adapter instanceof HazelcastKeyValueAdapter) {
+            return ((HazelcastKeyValueAdapter) adapter).getAll(ids, keyspace);
+        }
+        Map<ID, Object> result = new HashMap<>();
+        for (ID id : ids) {
+            Object value = adapter.get(id, keyspace);
+            if (value != null) {
+                result.put(id, value);
+            }
+        }
+        return result;
+    }
+
+    private void putAll(KeyValueAdapter adapter, Map<ID, ?> batch, String keyspace) {
+        if (adapter instanceof HazelcastKeyValueAdapter) {
+            ((HazelcastKeyValueAdapter) adapter).putAll(batch, keyspace);
+        } else {
+            for (Map.Entry<ID, ?> entry : batch.entrySet()) {
+                adapter.put(entry.getKey(), entry.getValue(), keyspace);
+            }
+        }
     }
 
 }
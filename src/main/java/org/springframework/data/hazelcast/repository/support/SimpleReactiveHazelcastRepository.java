@@ -0,0 +1,216 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.support;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.hazelcast.repository.ReactiveHazelcastRepository;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Serializable;
+import java.util.Map.Entry;
+
+/**
+ * <p>
+ * The implementation of {@link ReactiveHazelcastRepository}, built on the asynchronous methods of
+ * {@link SimpleHazelcastRepository}.
+ * </P>
+ * <p>
+ * Nothing is sent to Hazelcast until the result is subscribed to. Operations by id complete on Hazelcast's threads
+ * without one waiting. Hazelcast has no asynchronous form of {@code findAll}, {@code count} or {@code deleteAll}, so
+ * these run on {@link Schedulers#elastic()} rather than block the subscriber; {@code findAll} fetches a partition at a
+ * time as values are requested, and stops if cancelled. As for {@link SimpleHazelcastRepository#saveAsync}, an entity
+ * without an id is saved synchronously so one can be generated for it.
+ * </P>
+ *
+ * @param <T>  The domain object
+ * @param <ID> The key of the domain object
+ * @author Neil Stevenson
+ */
+public class SimpleReactiveHazelcastRepository<T extends Serializable, ID extends Serializable>
+        implements ReactiveHazelcastRepository<T, ID> {
+
+    private final EntityInformation<T, ID> entityInformation;
+    private final KeyValueOperations operations;
+    private final SimpleHazelcastRepository<T, ID> repository;
+
+    public SimpleReactiveHazelcastRepository(EntityInformation<T, ID> metadata, KeyValueOperations operations) {
+        Assert.notNull(metadata, "EntityInformation must not be null!");
+        Assert.notNull(operations, "KeyValueOperations must not be null!");
+        this.entityInformation = metadata;
+        this.operations = operations;
+        this.repository = new SimpleHazelcastRepository<>(metadata, operations);
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+
+        Assert.notNull(entity, "Entity must not be null!");
+
+        return Mono.defer(() -> Mono.fromFuture(this.repository.saveAsync(entity)));
+    }
+
+    /**
+     * <p>
+     * Save entities with all the writes in flight at once, emitting them in the order given.
+     * </P>
+     */
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+
+        Assert.notNull(entities, "The given Iterable of entities must not be null!");
+
+        return Flux.fromIterable(entities).flatMapSequential(this::save);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+
+        Assert.notNull(entityStream, "The given Publisher of entities must not be null!");
+
+        return Flux.from(entityStream).flatMapSequential(this::save);
+    }
+
+    @Override
+    public Mono<T> findById(ID id) {
+
+        Assert.notNull(id, "The given id must not be null!");
+
+        return Mono.defer(() -> Mono.fromFuture(this.repository.findByIdAsync(id))).flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<ID> publisher) {
+
+        Assert.notNull(publisher, "The given id must not be null!");
+
+        return Mono.from(publisher).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(ID id) {
+
+        Assert.notNull(id, "The given id must not be null!");
+
+        return Mono.defer(() -> Mono.fromFuture(this.repository.existsByIdAsync(id)));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<ID> publisher) {
+
+        Assert.notNull(publisher, "The given id must not be null!");
+
+        return Mono.from(publisher).flatMap(this::existsById);
+    }
+
+    /**
+     * <p>
+     * Iterate the keyspace a partition at a time, see
+     * {@link org.springframework.data.hazelcast.HazelcastKeyValueAdapter#entries(String)}.
+     * </P>
+     */
+    @Override
+    public Flux<T> findAll() {
+
+        Class<T> type = this.entityInformation.getJavaType();
+
+        return Flux.using(this::entries, iterator -> Flux.fromIterable(() -> iterator), CloseableIterator::close)
+                .map(Entry::getValue).filter(type::isInstance).map(type::cast).subscribeOn(Schedulers.elastic());
+    }
+
+    /**
+     * <p>
+     * Find entities with all the reads in flight at once, emitting them in the order of the ids given and omitting ids
+     * that are not found.
+     * </P>
+     */
+    @Override
+    public Flux<T> findAllById(Iterable<ID> ids) {
+
+        Assert.notNull(ids, "The given Iterable of id's must not be null!");
+
+        return Flux.fromIterable(ids).flatMapSequential(this::findById);
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<ID> idStream) {
+
+        Assert.notNull(idStream, "The given Publisher of id's must not be null!");
+
+        return Flux.from(idStream).flatMapSequential(this::findById);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return Mono.fromCallable(this.repository::count).subscribeOn(Schedulers.elastic());
+    }
+
+    @Override
+    public Mono<Void> deleteById(ID id) {
+
+        Assert.notNull(id, "The given id must not be null!");
+
+        return Mono.defer(() -> Mono.fromFuture(this.repository.deleteByIdAsync(id)));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<ID> publisher) {
+
+        Assert.notNull(publisher, "The given id must not be null!");
+
+        return Mono.from(publisher).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+
+        Assert.notNull(entity, "The given entity must not be null!");
+
+        return deleteById(this.entityInformation.getRequiredId(entity));
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+
+        Assert.notNull(entities, "The given Iterable of entities must not be null!");
+
+        return Flux.fromIterable(entities).flatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+
+        Assert.notNull(entityStream, "The given Publisher of entities must not be null!");
+
+        return Flux.from(entityStream).flatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return Mono.<Void>fromRunnable(this.repository::deleteAll).subscribeOn(Schedulers.elastic());
+    }
+
+    private CloseableIterator<Entry<Object, Object>> entries() {
+        String keyspace = this.repository.getKeySpace();
+        return this.operations.execute(adapter -> adapter.entries(keyspace));
+    }
+
+}
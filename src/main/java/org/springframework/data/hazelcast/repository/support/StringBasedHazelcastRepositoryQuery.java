@@ -15,41 +15,108 @@
  */
 package org.springframework.data.hazelcast.repository.support;
 
-import com.hazelcast.core.Hazelcast;
-import com.hazelcast.core.IMap;
-import com.hazelcast.query.SqlPredicate;
-import org.springframework.data.hazelcast.repository.config.Constants;
+import org.springframework.data.hazelcast.repository.query.Aggregation;
+import org.springframework.data.hazelcast.repository.query.HazelcastQueryExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.hazelcast.repository.query.HazelcastQueryTemplate;
+import org.springframework.data.hazelcast.repository.query.KeysetPageRequest;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * {@link RepositoryQuery} using String based {@link SqlPredicate} to query Hazelcast Cluster.
+ * <p>
+ * {@link RepositoryQuery} for methods annotated with {@link org.springframework.data.hazelcast.repository.query.Query
+ * Query}, using Hazelcast's SQL syntax.
+ * </P>
+ * <p>
+ * The query string is parsed once into a {@link HazelcastQueryTemplate}, and each call binds its arguments as values.
+ * The query runs through the repository's {@link KeyValueOperations}, so against the same Hazelcast instance, member
+ * or client, as the rest of the repository.
+ * </P>
+ * <p>
+ * Results take the same shapes as for derived queries. A {@code Sort} or {@code Pageable} argument sorts and pages on
+ * the members, whatever the return type, and a {@link KeysetPageRequest} adds the conditions for the rows after its
+ * anchor. The return type may be a {@code Page}, {@code Slice}, {@code Stream}, collection or single entity.
+ * A method name starting "{@code countBy}" returns the number of matches, and one starting "{@code findFirst}<I>nn</I>"
+ * or "{@code findTop}<I>nn</I>" limits the results, as for derived queries. One starting with an aggregate function,
+ * such as "{@code sumAge}", returns that aggregate of the matches, see {@link Aggregation}.
+ * </P>
  */
 public class StringBasedHazelcastRepositoryQuery implements RepositoryQuery {
 
+    private static final Pattern COUNT = Pattern.compile("^count(\\p{Lu}.*|)$");
+    private static final Pattern LIMIT = Pattern.compile("^(find|read|get|query|search|stream)(First|Top)(\\d*)(\\p{Lu}.*|)$");
 
     private final HazelcastQueryMethod queryMethod;
-    private final String keySpace;
+    private final HazelcastQueryExecutor executor;
+    private final HazelcastQueryTemplate queryTemplate;
+    private final Aggregation aggregation;
+    private final boolean isCount;
+    private final int limit;
 
-    public StringBasedHazelcastRepositoryQuery(HazelcastQueryMethod queryMethod) {
+    public StringBasedHazelcastRepositoryQuery(HazelcastQueryMethod queryMethod, KeyValueOperations keyValueOperations) {
+        Assert.notNull(keyValueOperations, "KeyValueOperations must not be null!");
         this.queryMethod = queryMethod;
-        this.keySpace = queryMethod.getKeySpace();
+        this.executor = new HazelcastQueryExecutor(queryMethod, keyValueOperations);
+        this.queryTemplate = HazelcastQueryTemplate.compile(queryMethod.getAnnotatedQuery(),
+                queryMethod.getParameters());
+
+        this.aggregation = Aggregation.parse(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+
+        Class<?> returnType = ClassUtils.resolvePrimitiveIfNecessary(queryMethod.getReturnedObjectType());
+        this.isCount = COUNT.matcher(queryMethod.getName()).matches() && Number.class.isAssignableFrom(returnType);
+
+        Matcher limitMatcher = LIMIT.matcher(queryMethod.getName());
+        if (limitMatcher.matches()) {
+            this.limit = limitMatcher.group(3).isEmpty() ? 1 : Integer.parseInt(limitMatcher.group(3));
+        } else {
+            this.limit = 0;
+        }
     }
 
     @Override
     public Object execute(Object[] parameters) {
 
-        String queryStringTemplate = queryMethod.getAnnotatedQuery();
+        ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
 
-        String queryString = String.format(queryStringTemplate, parameters);
+        KeyValueQuery<?> query = new KeyValueQuery<>(this.queryTemplate.bind(parameters));
+        query.setOffset(-1);
+        query.setRows(-1);
 
-        SqlPredicate sqlPredicate = new SqlPredicate(queryString);
+        if (this.aggregation != null) {
+            return this.executor.executeAggregateQuery(query, this.aggregation);
+        }
 
-        return getMap(keySpace).values(sqlPredicate);
-    }
+        if (this.isCount) {
+            return this.executor.executeCountQuery(query);
+        }
+
+        Pageable pageable = accessor.getPageable();
+        if (pageable instanceof KeysetPageRequest) {
+            query = ((KeysetPageRequest) pageable).restrict(query);
+        }
+
+        if (accessor.getSort().isSorted()) {
+            query.setSort(accessor.getSort());
+        }
+
+        if (pageable.isPaged()) {
+            query.setOffset(pageable.getOffset());
+            query.setRows(this.limit > 0 ? Math.min(pageable.getPageSize(), this.limit) : pageable.getPageSize());
+        } else if (this.limit > 0) {
+            query.setOffset(0);
+            query.setRows(this.limit);
+        }
 
-    private IMap getMap(String keySpace) {
-        return Hazelcast.getHazelcastInstanceByName(Constants.HAZELCAST_INSTANCE_NAME).getMap(keySpace);
+        return this.executor.execute(query, pageable);
     }
 
     @Override
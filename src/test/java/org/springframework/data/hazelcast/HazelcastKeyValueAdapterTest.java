@@ -0,0 +1,238 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.springframework.data.util.CloseableIterator;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.query.Predicates;
+
+import test.utils.InstanceHelper;
+
+/**
+ * Unit tests for the Hazelcast specific operations of {@link HazelcastKeyValueAdapter}.
+ *
+ * @author Neil Stevenson
+ */
+public class HazelcastKeyValueAdapterTest {
+
+	private static final String KEYSPACE = "adapter";
+
+	private HazelcastKeyValueAdapter adapter;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		// Communal system properties setter in static block
+		Class.forName(InstanceHelper.class.getName());
+	}
+
+	@Before
+	public void setUp() {
+		this.adapter = HazelcastUtils.preconfiguredHazelcastKeyValueAdapter();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		this.adapter.destroy();
+		Hazelcast.shutdownAll();
+	}
+
+	@Test
+	public void putAllShouldStoreEveryEntryAcrossSeveralBatches() {
+
+		this.adapter.setBatchSize(7);
+
+		Map<String, String> entries = new HashMap<>();
+		for (int i = 0; i < 100; i++) {
+			entries.put("k" + i, "v" + i);
+		}
+
+		this.adapter.putAll(entries, KEYSPACE);
+
+		assertThat(this.adapter.count(KEYSPACE), is(100L));
+		for (int i = 0; i < 100; i++) {
+			assertThat(this.adapter.get("k" + i, KEYSPACE), is((Object) ("v" + i)));
+		}
+	}
+
+	@Test
+	public void putAllShouldAcceptEmptyMap() {
+
+		this.adapter.putAll(new HashMap<>(), KEYSPACE);
+
+		assertThat(this.adapter.count(KEYSPACE), is(0L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void putAllShouldThrowExceptionForNullValue() {
+
+		Map<String, String> entries = new HashMap<>();
+		entries.put("k", null);
+
+		this.adapter.putAll(entries, KEYSPACE);
+	}
+
+	@Test
+	public void getAllShouldReturnOnlyKeysPresent() {
+
+		this.adapter.setBatchSize(3);
+		for (int i = 0; i < 10; i++) {
+			this.adapter.put("k" + i, "v" + i, KEYSPACE);
+		}
+
+		Map<Object, Object> result = this.adapter.getAll(Arrays.asList("k1", "k9", "k5", "k1", "missing", "k7"), KEYSPACE);
+
+		assertThat(result.size(), is(4));
+		assertThat(result, hasEntry((Object) "k1", (Object) "v1"));
+		assertThat(result, hasEntry((Object) "k5", (Object) "v5"));
+		assertThat(result, hasEntry((Object) "k7", (Object) "v7"));
+		assertThat(result, hasEntry((Object) "k9", (Object) "v9"));
+	}
+
+	@Test
+	public void putShouldReturnPreviousValueByDefault() {
+
+		this.adapter.put("k", "one", KEYSPACE);
+
+		assertThat(this.adapter.put("k", "two", KEYSPACE), is((Object) "one"));
+	}
+
+	@Test
+	public void setWriteModeShouldNotReturnPreviousValue() {
+
+		this.adapter.setWriteMode(WriteMode.SET);
+		this.adapter.put("k", "one", KEYSPACE);
+
+		assertThat(this.adapter.put("k", "two", KEYSPACE), nullValue());
+		assertThat(this.adapter.get("k", KEYSPACE), is((Object) "two"));
+	}
+
+	@Test
+	public void keyspaceWriteModeShouldOverrideAdapterWriteMode() {
+
+		this.adapter.setWriteMode(KEYSPACE, WriteMode.SET_ASYNC);
+		this.adapter.put("k", "one", KEYSPACE);
+		this.adapter.put("k", "one", "other");
+
+		assertThat(this.adapter.put("k", "two", KEYSPACE), nullValue());
+		assertThat(this.adapter.put("k", "two", "other"), is((Object) "one"));
+		assertThat(this.adapter.get("k", KEYSPACE), is((Object) "two"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void batchSizeMustBePositive() {
+		this.adapter.setBatchSize(0);
+	}
+
+	@Test
+	public void entriesShouldIterateEveryEntryInSmallFetches() {
+
+		this.adapter.setFetchSize(3);
+
+		Map<String, String> entries = new HashMap<>();
+		for (int i = 0; i < 100; i++) {
+			entries.put("k" + i, "v" + i);
+		}
+		this.adapter.putAll(entries, KEYSPACE);
+
+		Map<Object, Object> iterated = new HashMap<>();
+		try (CloseableIterator<Entry<Object, Object>> iterator = this.adapter.entries(KEYSPACE)) {
+			assertThat(iterator, instanceOf(PartitionIterator.class));
+			iterator.forEachRemaining(entry -> iterated.put(entry.getKey(), entry.getValue()));
+		}
+
+		assertThat(iterated, equalTo((Map<?, ?>) entries));
+	}
+
+	@Test
+	public void entriesShouldStopWhenClosed() {
+
+		this.adapter.putAll(Collections.singletonMap("k", "v"), KEYSPACE);
+
+		CloseableIterator<Entry<Object, Object>> iterator = this.adapter.entries(KEYSPACE);
+		iterator.close();
+
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void getAllOfShouldIterateEveryValue() {
+
+		this.adapter.setFetchSize(3);
+		this.adapter.setPrefetchValues(false);
+
+		Set<Object> values = new HashSet<>();
+		for (int i = 0; i < 20; i++) {
+			this.adapter.put("k" + i, "v" + i, KEYSPACE);
+			values.add("v" + i);
+		}
+
+		assertThat(this.adapter.getAllOf(KEYSPACE).size(), is(20));
+		assertThat(new HashSet<>(this.adapter.getAllOf(KEYSPACE)), equalTo(values));
+	}
+
+	@Test
+	public void getAllOfShouldBeAViewOfTheMap() {
+
+		Collection<?> view = this.adapter.getAllOf(KEYSPACE);
+		assertTrue(view.isEmpty());
+
+		this.adapter.put("k1", "v1", KEYSPACE);
+		this.adapter.put("k2", "v2", KEYSPACE);
+
+		assertThat(view.size(), is(2));
+		assertThat(new HashSet<>(view), equalTo(new HashSet<>(Arrays.asList("v1", "v2"))));
+	}
+
+	@Test
+	public void valuesShouldIterateOnlyMatches() {
+
+		this.adapter.setFetchSize(3);
+
+		Set<Object> expected = new HashSet<>();
+		for (int i = 0; i < 50; i++) {
+			this.adapter.put("k" + i, i, KEYSPACE);
+			if (i >= 40) {
+				expected.add(i);
+			}
+		}
+
+		Set<Object> values = new HashSet<>();
+		try (CloseableIterator<Object> iterator = this.adapter.values(Predicates.greaterEqual("this", 40), KEYSPACE)) {
+			iterator.forEachRemaining(values::add);
+		}
+
+		assertThat(values, equalTo(expected));
+	}
+
+}
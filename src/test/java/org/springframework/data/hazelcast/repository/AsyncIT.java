@@ -0,0 +1,123 @@
+package org.springframework.data.hazelcast.repository;
+
+import org.junit.Test;
+import org.springframework.test.context.ActiveProfiles;
+import test.utils.TestConstants;
+import test.utils.TestDataHelper;
+import test.utils.domain.Person;
+import test.utils.repository.standard.PersonRepository;
+
+import javax.annotation.Resource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Test the {@link HazelcastAsyncRepository} methods of a Spring generated repository, verifying against the underlying
+ * Hazelcast instance directly.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+@ActiveProfiles(TestConstants.SPRING_TEST_PROFILE_SINGLETON)
+public class AsyncIT extends TestDataHelper {
+    private static final String NINETEEN_HUNDRED = "1900";
+    private static final String TWO_THOUSAND = "2000";
+    private static final long TIMEOUT_SECONDS = 10L;
+
+    @Resource
+    private PersonRepository personRepository;
+
+    @Test
+    public void findByIdAsync() throws Exception {
+        CompletableFuture<Optional<Person>> future = this.personRepository.findByIdAsync(TWO_THOUSAND);
+
+        Optional<Person> person = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertTrue("2000 found", person.isPresent());
+        assertThat(person.get(), equalTo(super.personMap.get(TWO_THOUSAND)));
+    }
+
+    @Test
+    public void findByIdAsyncNotFound() throws Exception {
+        Optional<Person> person = this.personRepository.findByIdAsync(NINETEEN_HUNDRED).get(TIMEOUT_SECONDS,
+                TimeUnit.SECONDS);
+
+        assertFalse("1900 not found", person.isPresent());
+    }
+
+    @Test
+    public void saveAsync() throws Exception {
+        Person person = new Person();
+        person.setId(NINETEEN_HUNDRED);
+        person.setFirstname("Georges");
+        person.setLastname("Melies");
+
+        Person saved = this.personRepository.saveAsync(person).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat("Same entity returned", saved, sameInstance(person));
+        assertThat(super.personMap.get(NINETEEN_HUNDRED), equalTo(person));
+    }
+
+    @Test
+    public void deleteByIdAsync() throws Exception {
+        assertTrue("2000 exists before", super.personMap.containsKey(TWO_THOUSAND));
+
+        this.personRepository.deleteByIdAsync(TWO_THOUSAND).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertFalse("2000 does not exist after", super.personMap.containsKey(TWO_THOUSAND));
+    }
+
+    @Test
+    public void existsByIdAsync() throws Exception {
+        assertTrue("2000 exists", this.personRepository.existsByIdAsync(TWO_THOUSAND).get(TIMEOUT_SECONDS,
+                TimeUnit.SECONDS));
+        assertFalse("1900 does not exist", this.personRepository.existsByIdAsync(NINETEEN_HUNDRED).get(TIMEOUT_SECONDS,
+                TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void findAllByIdAsync() throws Exception {
+        List<Person> people = this.personRepository.findAllByIdAsync(Arrays.asList(TWO_THOUSAND, NINETEEN_HUNDRED, "1999"))
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat("1900 omitted", people.size(), equalTo(2));
+        assertThat(people.get(0), equalTo(super.personMap.get(TWO_THOUSAND)));
+        assertThat(people.get(1), equalTo(super.personMap.get("1999")));
+    }
+
+    @Test
+    public void saveAllAsync() throws Exception {
+        Person first = new Person();
+        first.setId(NINETEEN_HUNDRED);
+        first.setFirstname("Georges");
+        first.setLastname("Melies");
+        Person second = new Person();
+        second.setId("1901");
+        second.setFirstname("Ferdinand");
+        second.setLastname("Zecca");
+
+        List<Person> saved = this.personRepository.saveAllAsync(Arrays.asList(first, second)).get(TIMEOUT_SECONDS,
+                TimeUnit.SECONDS);
+
+        assertThat(saved, contains(first, second));
+        assertThat(super.personMap.get(NINETEEN_HUNDRED), equalTo(first));
+        assertThat(super.personMap.get("1901"), equalTo(second));
+    }
+
+    @Test
+    public void deleteAsync() throws Exception {
+        Person person = super.personMap.get(TWO_THOUSAND);
+
+        this.personRepository.deleteAsync(person).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertFalse("2000 does not exist after", super.personMap.containsKey(TWO_THOUSAND));
+    }
+
+}
@@ -0,0 +1,218 @@
+package org.springframework.data.hazelcast.repository;
+
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import test.utils.TestConstants;
+import test.utils.TestDataHelper;
+import test.utils.domain.Person;
+import test.utils.domain.PersonLastname;
+import test.utils.repository.reactive.ReactivePersonRepository;
+
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Test a Spring generated {@link ReactiveHazelcastRepository}, verifying against the underlying Hazelcast instance
+ * directly.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+@ActiveProfiles(TestConstants.SPRING_TEST_PROFILE_SINGLETON)
+public class ReactiveIT extends TestDataHelper {
+    private static final String NINETEEN_HUNDRED = "1900";
+    private static final String TWO_THOUSAND = "2000";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10L);
+
+    @Resource
+    private ReactivePersonRepository reactivePersonRepository;
+
+    @Test
+    public void findById() {
+        Person person = this.reactivePersonRepository.findById(TWO_THOUSAND).block(TIMEOUT);
+
+        assertThat(person, equalTo(super.personMap.get(TWO_THOUSAND)));
+    }
+
+    @Test
+    public void findByIdNotFound() {
+        assertThat(this.reactivePersonRepository.findById(NINETEEN_HUNDRED).block(TIMEOUT), nullValue());
+    }
+
+    @Test
+    public void findByIdPublisher() {
+        Person person = this.reactivePersonRepository.findById(Mono.just(TWO_THOUSAND)).block(TIMEOUT);
+
+        assertThat(person, equalTo(super.personMap.get(TWO_THOUSAND)));
+    }
+
+    @Test
+    public void existsById() {
+        assertTrue("2000 exists", this.reactivePersonRepository.existsById(TWO_THOUSAND).block(TIMEOUT));
+        assertFalse("1900 does not exist", this.reactivePersonRepository.existsById(NINETEEN_HUNDRED).block(TIMEOUT));
+    }
+
+    @Test
+    public void save() {
+        Person person = new Person();
+        person.setId(NINETEEN_HUNDRED);
+        person.setFirstname("Georges");
+        person.setLastname("Melies");
+
+        Mono<Person> mono = this.reactivePersonRepository.save(person);
+        assertFalse("Not saved before subscribing", super.personMap.containsKey(NINETEEN_HUNDRED));
+
+        Person saved = mono.block(TIMEOUT);
+
+        assertThat("Same entity returned", saved, sameInstance(person));
+        assertThat(super.personMap.get(NINETEEN_HUNDRED), equalTo(person));
+    }
+
+    @Test
+    public void saveAll() {
+        Person first = new Person();
+        first.setId(NINETEEN_HUNDRED);
+        first.setFirstname("Georges");
+        first.setLastname("Melies");
+        Person second = new Person();
+        second.setId("1901");
+        second.setFirstname("Ferdinand");
+        second.setLastname("Zecca");
+
+        List<Person> saved = this.reactivePersonRepository.saveAll(Flux.just(first, second)).collectList()
+                .block(TIMEOUT);
+
+        assertThat(saved, contains(first, second));
+        assertThat(super.personMap.get(NINETEEN_HUNDRED), equalTo(first));
+        assertThat(super.personMap.get("1901"), equalTo(second));
+    }
+
+    @Test
+    public void findAll() {
+        List<Person> people = this.reactivePersonRepository.findAll().collectList().block(TIMEOUT);
+
+        assertThat(people.size(), equalTo(super.personMap.size()));
+        assertThat(people, containsInAnyOrder(super.personMap.values().toArray()));
+    }
+
+    @Test
+    public void findAllCancelled() {
+        List<Person> people = this.reactivePersonRepository.findAll().take(3).collectList().block(TIMEOUT);
+
+        assertThat(people.size(), equalTo(3));
+    }
+
+    @Test
+    public void findAllById() {
+        List<Person> people = this.reactivePersonRepository.findAllById(
+                Arrays.asList(TWO_THOUSAND, NINETEEN_HUNDRED, "1999")).collectList().block(TIMEOUT);
+
+        assertThat("1900 omitted", people.size(), equalTo(2));
+        assertThat(people.get(0), equalTo(super.personMap.get(TWO_THOUSAND)));
+        assertThat(people.get(1), equalTo(super.personMap.get("1999")));
+    }
+
+    @Test
+    public void count() {
+        assertThat(this.reactivePersonRepository.count().block(TIMEOUT), equalTo((long) super.personMap.size()));
+    }
+
+    @Test
+    public void deleteById() {
+        this.reactivePersonRepository.deleteById(TWO_THOUSAND).block(TIMEOUT);
+
+        assertFalse("2000 does not exist after", super.personMap.containsKey(TWO_THOUSAND));
+    }
+
+    @Test
+    public void deleteAllIterable() {
+        Person first = super.personMap.get(TWO_THOUSAND);
+        Person second = super.personMap.get("1999");
+
+        this.reactivePersonRepository.deleteAll(Arrays.asList(first, second)).block(TIMEOUT);
+
+        assertFalse("2000 does not exist after", super.personMap.containsKey(TWO_THOUSAND));
+        assertFalse("1999 does not exist after", super.personMap.containsKey("1999"));
+    }
+
+    @Test
+    public void findByFirstname() {
+        List<Person> people = this.reactivePersonRepository.findByFirstname("James").collectList().block(TIMEOUT);
+
+        assertThat(people, containsInAnyOrder(super.personMap.get("1940"), super.personMap.get("1942")));
+    }
+
+    @Test
+    public void findByLastnameOrderByIdAsc() {
+        List<String> ids = this.reactivePersonRepository.findByLastnameOrderByIdAsc("Day-Lewis").map(Person::getId)
+                .collectList().block(TIMEOUT);
+
+        assertThat(ids, contains("1989", "2007", "2012"));
+    }
+
+    @Test
+    public void findByFirstnameStartsWithSorted() {
+        List<String> ids = this.reactivePersonRepository.findByFirstnameStartsWith("Ja", Sort.by("id").descending())
+                .map(Person::getId).collectList().block(TIMEOUT);
+
+        assertThat(ids, contains("2004", "1997", "1975", "1973", "1942", "1940"));
+    }
+
+    @Test
+    public void findByIdStartsWithProjection() {
+        List<String> lastnames = this.reactivePersonRepository.findByIdStartsWith("201")
+                .map(PersonLastname::getLastname).collectList().block(TIMEOUT);
+
+        List<String> expected = super.personMap.values().stream().filter(person -> person.getId().startsWith("201"))
+                .map(Person::getLastname).collect(Collectors.toList());
+        assertThat(expected.size(), greaterThan(3));
+        assertThat(lastnames, containsInAnyOrder(expected.toArray()));
+    }
+
+    @Test
+    public void findFirstByFirstnameOrderByIdDesc() {
+        Person person = this.reactivePersonRepository.findFirstByFirstnameOrderByIdDesc("Jack").block(TIMEOUT);
+
+        assertThat(person, equalTo(super.personMap.get("1997")));
+    }
+
+    @Test
+    public void countByFirstname() {
+        assertThat(this.reactivePersonRepository.countByFirstname("Jack").block(TIMEOUT), equalTo(3L));
+    }
+
+    @Test
+    public void existsByLastname() {
+        assertTrue("Hoffman", this.reactivePersonRepository.existsByLastname("Hoffman").block(TIMEOUT));
+        assertFalse("Chaplin", this.reactivePersonRepository.existsByLastname("Chaplin").block(TIMEOUT));
+    }
+
+    @Test
+    public void deleteByLastname() {
+        Mono<Void> mono = this.reactivePersonRepository.deleteByLastname("Brody");
+        assertTrue("Not deleted before subscribing", super.personMap.containsKey("2002"));
+
+        mono.block(TIMEOUT);
+
+        assertFalse("2002 does not exist after", super.personMap.containsKey("2002"));
+    }
+
+    @Test
+    public void queryAnnotation() {
+        List<String> ids = this.reactivePersonRepository.peoplewiththeirFirstName("James").map(Person::getId)
+                .collect(Collectors.toList()).block(TIMEOUT);
+
+        assertThat(ids, containsInAnyOrder("1940", "1942"));
+    }
+
+}
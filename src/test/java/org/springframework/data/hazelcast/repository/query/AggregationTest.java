@@ -0,0 +1,154 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+import org.springframework.data.hazelcast.repository.query.Aggregation.Function;
+import org.springframework.data.mapping.PropertyReferenceException;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.SerializationConstants;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.query.impl.QueryEntry;
+import com.hazelcast.query.impl.getters.Extractors;
+
+import test.utils.domain.Person;
+
+/**
+ * Unit tests for {@link Aggregation}.
+ *
+ * @author Neil Stevenson
+ */
+public class AggregationTest {
+
+	@Test
+	public void shouldParseFunctionPropertyAndCriteria() {
+		Aggregation aggregation = Aggregation.parse("sumAwardYearByFirstnameAndLastname", Person.class);
+
+		assertThat(aggregation.getFunction(), is(Function.SUM));
+		assertThat(aggregation.getAttribute(), is("awardYear"));
+		assertThat(aggregation.getPartTreeName(), is("findByFirstnameAndLastname"));
+	}
+
+	@Test
+	public void shouldParseWithoutCriteria() {
+		Aggregation aggregation = Aggregation.parse("maxId", Person.class);
+
+		assertThat(aggregation.getFunction(), is(Function.MAX));
+		assertThat(aggregation.getAttribute(), is("id"));
+		assertThat(aggregation.getPartTreeName(), is("findBy"));
+	}
+
+	@Test
+	public void shouldParseGroupBy() {
+		Aggregation aggregation = Aggregation.parse("avgAwardYearByFirstnameGroupByLastname", Person.class);
+
+		assertThat(aggregation.getFunction(), is(Function.AVG));
+		assertThat(aggregation.getAttribute(), is("awardYear"));
+		assertThat(aggregation.getGroupAttribute(), is("lastname"));
+		assertThat(aggregation.getPartTreeName(), is("findByFirstname"));
+
+		aggregation = Aggregation.parse("countGroupByLastname", Person.class);
+
+		assertThat(aggregation.getFunction(), is(Function.COUNT));
+		assertThat(aggregation.getAttribute(), nullValue());
+		assertThat(aggregation.getGroupAttribute(), is("lastname"));
+		assertThat(aggregation.getPartTreeName(), is("findBy"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectGroupByWithoutProperty() {
+		Aggregation.parse("sumGroupByLastname", Person.class);
+	}
+
+	@Test
+	public void shouldCombineGroupsAfterSerialization() {
+		shouldCombineGroupsAfterSerialization(false, new DefaultSerializationServiceBuilder().build());
+	}
+
+	@Test
+	public void shouldCombineGroupsAfterIdentifiedSerialization() {
+		shouldCombineGroupsAfterSerialization(true, new DefaultSerializationServiceBuilder()
+				.addDataSerializableFactory(HazelcastDataSerializableFactory.FACTORY_ID, new HazelcastDataSerializableFactory())
+				.build());
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static void shouldCombineGroupsAfterSerialization(boolean identified,
+			InternalSerializationService serializationService) {
+		Aggregator<Entry<Object, Object>, Map<Object, Object>> first = (Aggregator) Aggregation
+				.parse("maxAwardYearGroupByLastname", Person.class).toAggregator(identified);
+		Aggregator<Entry<Object, Object>, Map<Object, Object>> second = (Aggregator) Aggregation
+				.parse("maxAwardYearGroupByLastname", Person.class).toAggregator(identified);
+		first.accumulate(entry(serializationService, "1972", "Marlon", "Brando", 1972));
+		first.accumulate(entry(serializationService, "1979", "Dustin", "Hoffman", 1979));
+		second.accumulate(entry(serializationService, "1954", "Marlon", "Brando", 1954));
+		second.accumulate(entry(serializationService, "1940", "James", "Stewart", 1940));
+
+		Data data = serializationService.toData(second);
+		assertThat(data.getType(), is(identified ? SerializationConstants.CONSTANT_TYPE_DATA_SERIALIZABLE
+				: SerializationConstants.JAVA_DEFAULT_TYPE_SERIALIZABLE));
+		Aggregator copy = serializationService.toObject(data);
+		first.combine(copy);
+
+		Map<Object, Object> result = first.aggregate();
+		assertThat(result.size(), is(3));
+		assertThat(result, hasEntry((Object) "Brando", (Object) 1972));
+		assertThat(result, hasEntry((Object) "Hoffman", (Object) 1979));
+		assertThat(result, hasEntry((Object) "Stewart", (Object) 1940));
+	}
+
+	@Test
+	public void shouldIgnoreOtherMethods() {
+		assertThat(Aggregation.parse("findByFirstname", Person.class), nullValue());
+		assertThat(Aggregation.parse("summaryByFirstname", Person.class), nullValue());
+	}
+
+	@Test(expected = PropertyReferenceException.class)
+	public void shouldRejectUnknownProperty() {
+		Aggregation.parse("avgAgeByFirstname", Person.class);
+	}
+
+	@Test
+	public void shouldConvertToReturnType() {
+		Aggregation aggregation = Aggregation.parse("avgAwardYear", Person.class);
+
+		assertThat(aggregation.convert(1941.5, int.class), is((Object) 1941));
+		assertThat(aggregation.convert(1941.5, Double.class), is((Object) 1941.5));
+		assertThat(aggregation.convert(null, Double.class), nullValue());
+	}
+
+	/* As the members see an entry, so attributes can be extracted.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Entry<Object, Object> entry(InternalSerializationService serializationService, String id,
+			String firstname, String lastname, int awardYear) {
+		Person person = new Person();
+		person.setId(id);
+		person.setFirstname(firstname);
+		person.setLastname(lastname);
+		person.setAwardYear(awardYear);
+		return new QueryEntry(serializationService, serializationService.toData(id), person, Extractors.empty());
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Map.Entry;
+
+import org.junit.Test;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.util.ReflectionUtils;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.QueryEntry;
+import com.hazelcast.query.impl.getters.Extractors;
+
+import test.utils.domain.Person;
+
+/**
+ * Unit tests for {@link HazelcastQueryTemplate}.
+ *
+ * @author Neil Stevenson
+ */
+public class HazelcastQueryTemplateTest {
+
+	private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+	@Test
+	public void unquotedLiteralShouldKeepLeadingZeros() {
+		Predicate<?, ?> predicate = HazelcastQueryTemplate.compile("lastname = 0042", parameters("noArguments"))
+				.bind(new Object[0]);
+
+		assertTrue("Same string", matches(predicate, "0042", 1940));
+		assertFalse("Not the number", matches(predicate, "42", 1940));
+	}
+
+	@Test
+	public void unquotedLiteralShouldCompareAsAttributeType() {
+		Predicate<?, ?> predicate = HazelcastQueryTemplate.compile("awardYear > 999", parameters("noArguments"))
+				.bind(new Object[0]);
+
+		assertTrue("1940 > 999 as numbers", matches(predicate, "Stewart", 1940));
+	}
+
+	@Test
+	public void quotedMarkerShouldBeRejected() {
+		try {
+			HazelcastQueryTemplate.compile("lastname LIKE '%s%%'", parameters("oneArgument"));
+			fail("Quoted %s accepted");
+		} catch (IllegalArgumentException expected) {
+			assertThat(expected.getMessage(), containsString("inside quotes"));
+		}
+	}
+
+	@Test
+	public void escapedPercentShouldBeAllowedInQuotes() {
+		Predicate<?, ?> predicate = HazelcastQueryTemplate.compile("lastname = '100%%s' OR lastname = %s",
+				parameters("oneArgument")).bind(new Object[] { "Stewart" });
+
+		assertTrue("Bound argument", matches(predicate, "Stewart", 1940));
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private boolean matches(Predicate predicate, String lastname, int awardYear) {
+		Person person = new Person();
+		person.setId(Integer.toString(awardYear));
+		person.setLastname(lastname);
+		person.setAwardYear(awardYear);
+		Entry entry = new QueryEntry(this.serializationService, this.serializationService.toData(person.getId()),
+				person, Extractors.empty());
+		return predicate.apply(entry);
+	}
+
+	private static Parameters<?, ?> parameters(String methodName) {
+		return new DefaultParameters(ReflectionUtils.findMethod(Queries.class, methodName, (Class<?>[]) null));
+	}
+
+	interface Queries {
+		void noArguments();
+
+		void oneArgument(String argument);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Comparator;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.SerializationConstants;
+import com.hazelcast.nio.serialization.Data;
+
+import test.utils.domain.Person;
+
+/**
+ * Unit tests for the comparators built by {@link HazelcastSortAccessor}.
+ *
+ * @author Neil Stevenson
+ */
+public class HazelcastSortAccessorTest {
+
+	private final HazelcastSortAccessor sortAccessor = new HazelcastSortAccessor();
+
+	@Test
+	public void resolveShouldReuseComparatorForEqualSort() {
+
+		Comparator<Entry<?, ?>> first = this.sortAccessor.resolve(new KeyValueQuery<>(Sort.by("lastname", "id")));
+		Comparator<Entry<?, ?>> second = this.sortAccessor.resolve(new KeyValueQuery<>(Sort.by("lastname", "id")));
+
+		assertThat(second, sameInstance(first));
+	}
+
+	@Test
+	public void comparatorShouldSerializeWithoutFactoryByDefault() {
+
+		Comparator<Entry<?, ?>> comparator = this.sortAccessor
+				.resolve(new KeyValueQuery<>(Sort.by(Sort.Order.desc("lastname"), Sort.Order.asc("id"))));
+
+		InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+		Data data = serializationService.toData(comparator);
+		Comparator<Entry<?, ?>> copy = serializationService.toObject(data);
+
+		assertThat(data.getType(), is(SerializationConstants.JAVA_DEFAULT_TYPE_SERIALIZABLE));
+		assertThat(copy, equalTo(comparator));
+		assertThat("Lastname descending", copy.compare(entry("1995", "Nicolas", "Cage"), entry("1993", "Tom", "Hanks")),
+				greaterThan(0));
+	}
+
+	@Test
+	public void comparatorShouldSerializeAsIdentifiedDataSerializable() {
+
+		HazelcastSortAccessor identifiedSortAccessor = new HazelcastSortAccessor(true);
+		Comparator<Entry<?, ?>> comparator = identifiedSortAccessor
+				.resolve(new KeyValueQuery<>(Sort.by(Sort.Order.desc("lastname"), Sort.Order.asc("id"))));
+
+		InternalSerializationService serializationService = new DefaultSerializationServiceBuilder()
+				.addDataSerializableFactory(HazelcastDataSerializableFactory.FACTORY_ID, new HazelcastDataSerializableFactory())
+				.build();
+		Data data = serializationService.toData(comparator);
+		Comparator<Entry<?, ?>> copy = serializationService.toObject(data);
+
+		assertThat(data.getType(), is(SerializationConstants.CONSTANT_TYPE_DATA_SERIALIZABLE));
+		assertThat(copy, equalTo(comparator));
+
+		Entry<?, ?> hanks1993 = entry("1993", "Tom", "Hanks");
+		Entry<?, ?> hanks1994 = entry("1994", "Tom", "Hanks");
+		Entry<?, ?> cage = entry("1995", "Nicolas", "Cage");
+
+		assertThat("Lastname descending", copy.compare(cage, hanks1993), greaterThan(0));
+		assertThat("Then id ascending", copy.compare(hanks1993, hanks1994), lessThan(0));
+
+		Comparator<Entry<?, ?>> ignoringCase = identifiedSortAccessor
+				.resolve(new KeyValueQuery<>(Sort.by(Sort.Order.asc("lastname").ignoreCase().nullsLast())));
+
+		assertThat(serializationService.toObject(serializationService.toData(ignoringCase)), equalTo(ignoringCase));
+	}
+
+	@Test
+	public void comparatorShouldIgnoreCaseAndPlaceNulls() {
+
+		Comparator<Entry<?, ?>> comparator = this.sortAccessor.resolve(new KeyValueQuery<>(
+				Sort.by(Sort.Order.desc("lastname").ignoreCase().nullsFirst(), Sort.Order.asc("id"))));
+
+		Entry<?, ?> upper = entry("1", "Tom", "HANKS");
+		Entry<?, ?> lower = entry("2", "Tom", "hanks");
+		Entry<?, ?> cage = entry("3", "Nicolas", "Cage");
+		Entry<?, ?> unknown = entry("4", "Nobody", null);
+
+		assertThat("Same ignoring case, then id", comparator.compare(upper, lower), lessThan(0));
+		assertThat("Descending ignoring case", comparator.compare(lower, cage), lessThan(0));
+		assertThat("Nulls first even though descending", comparator.compare(unknown, upper), lessThan(0));
+		assertThat("Nulls first the other way round", comparator.compare(cage, unknown), greaterThan(0));
+	}
+
+	@Test
+	public void comparatorShouldFollowEmbeddedPath() {
+
+		Comparator<Entry<?, ?>> comparator = this.sortAccessor
+				.resolve(new KeyValueQuery<>(Sort.by(Sort.Order.asc("value.lastname").nullsLast())));
+
+		Entry<?, ?> hanks = new SimpleEntry<>("1", entry("1", "Tom", "Hanks"));
+		Entry<?, ?> cage = new SimpleEntry<>("2", entry("2", "Nicolas", "Cage"));
+		Entry<?, ?> missing = new SimpleEntry<>("3", new SimpleEntry<>("3", null));
+
+		assertThat(comparator.compare(cage, hanks), lessThan(0));
+		assertThat(comparator.compare(hanks, missing), lessThan(0));
+	}
+
+	private static Entry<?, ?> entry(String id, String firstname, String lastname) {
+		Person person = new Person();
+		person.setId(id);
+		person.setFirstname(firstname);
+		person.setLastname(lastname);
+		return new SimpleEntry<>(id, person);
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+
+import test.utils.domain.Person;
+
+/**
+ * Unit tests for {@link KeysetPageRequest}.
+ *
+ * @author Neil Stevenson
+ */
+public class KeysetPageRequestTest {
+
+	private static final Sort LASTNAME_ID = Sort.by("lastname", "id");
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectIgnoreCase() {
+		KeysetPageRequest.first(10, Sort.by(Order.asc("lastname").ignoreCase()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNullHandling() {
+		KeysetPageRequest.first(10, Sort.by(Order.desc("lastname").nullsLast()));
+	}
+
+	@Test
+	public void shouldReadAnchorWithGetters() {
+		Person person = new Person();
+		person.setId("1940");
+		person.setFirstname("James");
+		person.setLastname("Stewart");
+
+		KeysetPageRequest next = KeysetPageRequest.first(10, LASTNAME_ID).following(person);
+
+		assertThat(next.getAnchor(), arrayContaining("Stewart", "1940"));
+		assertThat(next.getPageSize(), is(10));
+		assertThat(next.getSort(), is(LASTNAME_ID));
+	}
+
+	@Test
+	public void shouldReadAnchorFromFieldsWithoutGetters() {
+		KeysetPageRequest next = KeysetPageRequest.first(10, Sort.by("title")).following(new Song("Moon River"));
+
+		assertThat(next.getAnchor(), arrayContaining("Moon River"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectMissingSortProperty() {
+		KeysetPageRequest.first(10, Sort.by("year")).following(new Song("Moon River"));
+	}
+
+	@Test
+	public void shouldStartAgainWithoutAnchor() {
+		KeysetPageRequest request = KeysetPageRequest.first(10, LASTNAME_ID).after("Stewart", "1940");
+
+		assertThat(request.first(), equalTo(KeysetPageRequest.first(10, LASTNAME_ID)));
+		assertThat(request, not(equalTo(KeysetPageRequest.first(10, LASTNAME_ID))));
+		assertThat(request.hashCode(), equalTo(KeysetPageRequest.first(10, LASTNAME_ID).after("Stewart", "1940")
+				.hashCode()));
+	}
+
+	private static class Song {
+		private final String title;
+
+		Song(String title) {
+			this.title = title;
+		}
+	}
+}
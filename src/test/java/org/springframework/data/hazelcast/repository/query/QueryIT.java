@@ -1,5 +1,9 @@
 package org.springframework.data.hazelcast.repository.query;
 
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.Indexes;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -12,19 +16,27 @@ import org.springframework.test.context.ActiveProfiles;
 import test.utils.TestConstants;
 import test.utils.Oscars;
 import test.utils.TestDataHelper;
+import test.utils.domain.IndexedPerson;
 import test.utils.domain.Person;
+import test.utils.domain.PersonFullname;
+import test.utils.domain.PersonLastname;
+import test.utils.domain.PersonNames;
+import test.utils.repository.standard.IndexedPersonRepository;
 import test.utils.repository.standard.PersonRepository;
 
 import javax.annotation.Resource;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
@@ -36,7 +48,6 @@ import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
-import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -59,6 +70,7 @@ public class QueryIT extends TestDataHelper {
 	private static final int SIZE_5 = 5;
 
 	@Resource private PersonRepository personRepository;
+	@Resource private IndexedPersonRepository indexedPersonRepository;
 
 	@Rule public ExpectedException expectedException = ExpectedException.none();
 
@@ -79,10 +91,54 @@ public class QueryIT extends TestDataHelper {
 
 	@Test
 	public void countDistinctLastnameByFirstname() {
-		this.expectedException.expect(UnsupportedOperationException.class);
-		this.expectedException.expectMessage(startsWith("DISTINCT"));
+		Long count = this.personRepository.countDistinctLastnameByFirstname("Daniel");
+		assertThat("Day-Lewis 1989, 2007 and 2012", count, equalTo(1L));
 
-		this.personRepository.countDistinctLastnameByFirstname("Daniel");
+		count = this.personRepository.countDistinctLastnameByFirstname("Jack");
+		assertThat("Lemmon, Nicholson", count, equalTo(2L));
+	}
+
+	@Test
+	public void findDistinctLastname() {
+		List<String> lastnames = this.personRepository.findDistinctLastnameByFirstnameOrderByLastnameAsc("Jack");
+		assertThat("Lemmon 1973, Nicholson 1975 and 1997", lastnames, contains("Lemmon", "Nicholson"));
+
+		Set<String> firstnames = this.personRepository.findDistinctFirstnameByLastnameIn(
+				Arrays.asList("Hoffman", "Brando", "Penn"));
+		assertThat("Two of each", firstnames, containsInAnyOrder("Dustin", "Marlon", "Sean"));
+	}
+
+	@Test
+	public void findDistinctLastnameLimitedAndSorted() {
+		List<String> lastnames;
+		try (Stream<String> stream = this.personRepository.findDistinctFirst2LastnameByFirstnameStartsWith("Ja",
+				Sort.by(Sort.Direction.DESC, "lastname"))) {
+			lastnames = stream.collect(Collectors.toList());
+		}
+
+		assertThat("Stewart, Nicholson, Lemmon, Foxx, Cagney", lastnames, contains("Stewart", "Nicholson"));
+	}
+
+	@Test
+	public void findDistinctByFirstname() {
+		List<Person> matches = this.personRepository.findDistinctByFirstname("James");
+		assertThat("Domain objects are always distinct", matches, hasSize(2));
+	}
+
+	@Test
+	public void findDistinctFirst3ByLastname() {
+		List<Person> matches = this.personRepository.findDistinctFirst3ByLastname("Day-Lewis");
+		assertThat("1989, 2007 and 2012, the limit is not a property", matches, hasSize(3));
+
+		matches = this.personRepository.findDistinctFirst3ByLastname("Hoffman");
+		assertThat("1979 and 1988", matches, hasSize(2));
+	}
+
+	@Test
+	public void findDistinctTopByFirstname() {
+		Person match = this.personRepository.findDistinctTopByFirstname("James");
+		assertThat("Stewart or Cagney, the limit is not a property", match, notNullValue());
+		assertThat(match.getFirstname(), equalTo("James"));
 	}
 
 	@Test
@@ -210,6 +266,123 @@ public class QueryIT extends TestDataHelper {
 		assertThat("1940", matches.get(0).getId(), equalTo("1940"));
 	}
 
+	@Test
+	public void queryAnnotationWithPositionalParameters() {
+		List<Person> matches = this.personRepository.peoplewithFirstAndLastNamePositional("James", "Stewart");
+		assertThat("1940", matches.size(), equalTo(1));
+		assertThat("1940", matches.get(0).getId(), equalTo("1940"));
+	}
+
+	@Test
+	public void queryAnnotationWithNamedParameters() {
+		List<Person> matches = this.personRepository.peoplewithFirstNameInFrom("1941", Arrays.asList("James", "Bing"));
+		assertThat("1942 and 1944", matches,
+				containsInAnyOrder(hasProperty("id", equalTo("1942")), hasProperty("id", equalTo("1944"))));
+	}
+
+	@Test
+	public void queryAnnotationWithNumericLiterals() {
+		List<Person> matches = this.personRepository.peopleAwardedFrom2010To2012();
+		assertThat("Firth, Dujardin, Day-Lewis", matches, containsInAnyOrder(hasProperty("id", equalTo("2010")),
+				hasProperty("id", equalTo("2011")), hasProperty("id", equalTo("2012"))));
+
+		matches = this.personRepository.peopleAwardedIn1940Or1942();
+		assertThat("Stewart, Cagney", matches,
+				containsInAnyOrder(hasProperty("id", equalTo("1940")), hasProperty("id", equalTo("1942"))));
+	}
+
+	@Test
+	public void queryAnnotationWithSort() {
+		List<Person> matches = this.personRepository.peoplewithFirstName("Paul", Sort.by(Sort.Direction.DESC, "id"));
+		String[] ids = matches.stream().map(Person::getId).toArray(String[]::new);
+		assertThat("Newman, Scofield, Lukas, Muni", ids, equalTo(new String[] { "1986", "1966", "1943", "1936" }));
+	}
+
+	@Test
+	public void queryAnnotationWithLimit() {
+		List<Person> matches = this.personRepository.findFirst2PeoplewithFirstName("Paul",
+				Sort.by(Sort.Direction.DESC, "id"));
+		String[] ids = matches.stream().map(Person::getId).toArray(String[]::new);
+		assertThat("Newman, Scofield", ids, equalTo(new String[] { "1986", "1966" }));
+	}
+
+	@Test
+	public void queryAnnotationCount() {
+		assertThat("Muni, Lukas, Scofield, Newman", this.personRepository.countPeoplewithFirstName("Paul"),
+				equalTo(4L));
+	}
+
+	@Test
+	public void queryAnnotationPage() {
+		Page<Person> page = this.personRepository.peopleBetween("1940", "1949",
+				PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "id")));
+		String[] ids = page.getContent().stream().map(Person::getId).toArray(String[]::new);
+
+		assertThat("Second page", ids, equalTo(new String[] { "1946", "1945", "1944" }));
+		assertThat("1940s", page.getTotalElements(), equalTo(10L));
+	}
+
+	@Test
+	public void queryAnnotationSlice() {
+		Slice<Person> slice = this.personRepository.peopleBetweenSlice("1940", "1949",
+				PageRequest.of(3, 3, Sort.by("id")));
+		String[] ids = slice.getContent().stream().map(Person::getId).toArray(String[]::new);
+
+		assertThat("Last slice", ids, equalTo(new String[] { "1949" }));
+		assertFalse("Last slice", slice.hasNext());
+	}
+
+	@Test
+	public void queryAnnotationStream() {
+		try (Stream<Person> matches = this.personRepository.streamPeopleBetween("1940", "1949")) {
+			assertThat("1940s", matches.count(), equalTo(10L));
+		}
+	}
+
+	@Test
+	public void queryAnnotationListPageable() {
+		List<Person> matches = this.personRepository.listPeopleBetween("1940", "1949",
+				PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "id")));
+		String[] ids = matches.stream().map(Person::getId).toArray(String[]::new);
+
+		assertThat("Second page", ids, equalTo(new String[] { "1946", "1945", "1944" }));
+	}
+
+	@Test
+	public void queryAnnotationStreamPageable() {
+		try (Stream<Person> matches = this.personRepository.streamPeopleBetween("1940", "1949",
+				PageRequest.of(3, 3, Sort.by("id")))) {
+			String[] ids = matches.map(Person::getId).toArray(String[]::new);
+
+			assertThat("Last page", ids, equalTo(new String[] { "1949" }));
+		}
+	}
+
+	@Test
+	public void queryAnnotationKeyset() {
+		String[][] EXPECTED_PAGES = { { "1940", "1941", "1942", "1943" }, { "1944", "1945", "1946", "1947" },
+				{ "1948", "1949" }, {} };
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.first(4, Sort.by("id"));
+
+		for (int page = 0; page < EXPECTED_PAGES.length; page++) {
+			List<Person> matches = this.personRepository.listPeopleBetween("1940", "1949", pageRequest);
+			String[] ids = matches.stream().map(Person::getId).toArray(String[]::new);
+
+			assertThat("Page " + page, ids, equalTo(EXPECTED_PAGES[page]));
+
+			if (!matches.isEmpty()) {
+				pageRequest = pageRequest.following(matches.get(matches.size() - 1));
+			}
+		}
+	}
+
+	@Test
+	public void queryAnnotationParameterIsNotQueryText() {
+		List<Person> matches = this.personRepository.peoplewiththeirFirstName("Bing or firstname=James");
+		assertThat("No-one has that first name", matches, hasSize(0));
+	}
+
 
 	@SuppressWarnings("unchecked")
 	@Test
@@ -570,6 +743,29 @@ public class QueryIT extends TestDataHelper {
 		assertThat("All years matched", expectedYears, hasSize(0));
 	}
 
+	@Test
+	public void findByIdLikeKeyset() {
+		String PATTERN = "19%0";
+		String[][] EXPECTED_SLICES = { { "1990", "1980", "1970" }, { "1960", "1950", "1940" }, { "1930" } };
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.first(3, Sort.by(Sort.Direction.DESC, "id"));
+		Slice<Person> pageResponse = this.personRepository.findByIdLike(PATTERN, pageRequest);
+
+		for (int slice = 0; slice < EXPECTED_SLICES.length; slice++) {
+			List<Person> pageMatches = pageResponse.getContent();
+			String[] ids = pageMatches.stream().map(Person::getId).toArray(String[]::new);
+
+			assertThat("Slice " + slice, ids, equalTo(EXPECTED_SLICES[slice]));
+			assertThat("Slice " + slice + ", has next", pageResponse.hasNext(),
+					equalTo(slice < EXPECTED_SLICES.length - 1));
+
+			if (pageResponse.hasNext()) {
+				pageRequest = pageRequest.following(pageMatches.get(pageMatches.size() - 1));
+				pageResponse = this.personRepository.findByIdLike(PATTERN, pageRequest);
+			}
+		}
+	}
+
 	@Test
 	public void findByFirstnameContains() {
 		List<Person> matches = this.personRepository.findByFirstnameContains("ll");
@@ -604,6 +800,18 @@ public class QueryIT extends TestDataHelper {
 		assertThat("between 1959 and 1962", count, equalTo(4L));
 	}
 
+	@Test
+	public void existsByLastname() {
+		assertTrue("Brando 1954 and 1972", this.personRepository.existsByLastname("Brando"));
+		assertFalse("No Cruise", this.personRepository.existsByLastname("Cruise"));
+	}
+
+	@Test
+	public void existsByFirstnameAndLastnameAllIgnoreCase() {
+		assertTrue("Hoffman", this.personRepository.existsByFirstnameAndLastnameAllIgnoreCase("DUSTIN", "hoffman"));
+		assertFalse("No Dustin Brando", this.personRepository.existsByFirstnameAndLastnameAllIgnoreCase("Dustin", "Brando"));
+	}
+
 	@Test
 	public void findByFirstnameIn() {
 		List<Person> matches = this.personRepository.findByFirstnameIn(Arrays.asList("Jack", "Robert"));
@@ -619,6 +827,35 @@ public class QueryIT extends TestDataHelper {
 
 	}
 
+	@Test
+	public void findByLastnameStartsWith() {
+		List<IndexedPerson> matches = this.indexedPersonRepository.findByLastnameStartsWith("Ha");
+
+		assertThat("Range of ordered index", matches, hasSize(greaterThan(0)));
+		assertThat("Same as LIKE", matches, containsInAnyOrder(
+				this.indexedPersonMap.values(Predicates.like("lastname", "Ha%")).toArray()));
+	}
+
+	@Test
+	public void findByFirstnameEndsWith() {
+		List<IndexedPerson> matches = this.indexedPersonRepository.findByFirstnameEndsWith("ert");
+
+		assertThat("Range of reversed index", matches, hasSize(greaterThan(0)));
+		assertThat("Same as LIKE", matches, containsInAnyOrder(
+				this.indexedPersonMap.values(Predicates.like("firstname", "%ert")).toArray()));
+	}
+
+	@Test
+	public void findByFirstnameInIgnoreCase() {
+		List<IndexedPerson> matches = this.indexedPersonRepository.findByFirstnameInIgnoreCase(
+				Arrays.asList("jACK", "ROBERT"));
+
+		assertThat("3xJack, 3xRobert", matches.size(), equalTo(6));
+		assertThat("Lower-cased index", matches, hasItems(
+				allOf(hasProperty("firstname", equalTo("Jack")), hasProperty("lastname", equalTo("Lemmon"))),
+				allOf(hasProperty("firstname", equalTo("Robert")), hasProperty("lastname", equalTo("Duvall")))));
+	}
+
 	@Test
 	public void findByFirstnameEndsWithAndLastnameNotIn() {
 		List<Person> matches = this.personRepository.findByFirstnameEndsWithAndLastnameNotIn("on", Arrays.asList("Heston", "Brando"));
@@ -628,4 +865,130 @@ public class QueryIT extends TestDataHelper {
 				hasItems(allOf(hasProperty("firstname", equalTo("Jon")), hasProperty("lastname", equalTo("Voight")))));
 
 	}
+
+	@Test
+	public void findInterfaceProjection() {
+		List<PersonLastname> matches = this.personRepository.findByFirstnameOrderByLastnameAsc("James");
+
+		assertThat("1940 and 1942", matches, hasSize(2));
+		assertThat("Sorted on a projected property", matches.get(0).getLastname(), equalTo("Cagney"));
+		assertThat("Sorted on a projected property", matches.get(1).getLastname(), equalTo("Stewart"));
+	}
+
+	@Test
+	public void findDtoProjection() {
+		PersonNames names = this.personRepository.findNamesById("1954");
+
+		assertThat("1954", names, notNullValue());
+		assertThat("1954", names.getFirstname(), equalTo("Marlon"));
+		assertThat("1954", names.getLastname(), equalTo("Brando"));
+
+		assertThat("No such year", this.personRepository.findNamesById("1900"), nullValue());
+	}
+
+	@Test
+	public void streamDtoProjection() {
+		List<String> lastnames;
+		try (Stream<PersonNames> stream = this.personRepository.streamNamesByLastnameStartsWith("Ho")) {
+			lastnames = stream.map(PersonNames::getLastname).collect(Collectors.toList());
+		}
+
+		assertThat("Holden, Hoffman x 2, Hopkins", lastnames,
+				containsInAnyOrder("Holden", "Hoffman", "Hoffman", "Hopkins"));
+	}
+
+	@Test
+	public void findDtoFromWholeEntity() {
+		PersonFullname fullname = this.personRepository.findFullnameById("1954");
+
+		assertThat("1954", fullname, notNullValue());
+		assertThat("1954", fullname.getFullname(), equalTo("Marlon Brando"));
+
+		assertThat("No such year", this.personRepository.findFullnameById("1900"), nullValue());
+	}
+
+	@Test
+	public void findDtosFromWholeEntities() {
+		List<PersonFullname> matches = this.personRepository.findFullnameByFirstnameOrderByLastnameAsc("James");
+
+		assertThat("1940 and 1942", matches, hasSize(2));
+		assertThat("Sorted on a domain property", matches.get(0).getFullname(), equalTo("James Cagney"));
+		assertThat("Sorted on a domain property", matches.get(1).getFullname(), equalTo("James Stewart"));
+	}
+
+	@Test
+	public void findPagedInterfaceProjection() {
+		Page<PersonLastname> page = this.personRepository.findByFirstnameLike("J%", PageRequest.of(PAGE_0, SIZE_5));
+
+		assertThat("Projected after paging", page.getContent(), hasSize(SIZE_5));
+		assertThat("Projected after paging", page.getContent().get(0), instanceOf(PersonLastname.class));
+	}
+
+	@Test
+	public void sumAndAvgAwardYearByFirstname() {
+		assertThat("1940 + 1942", this.personRepository.sumAwardYearByFirstname("James"), equalTo(3882L));
+		assertThat("(1940 + 1942) / 2", this.personRepository.avgAwardYearByFirstname("James"), equalTo(1941.0));
+
+		assertThat("No matches", this.personRepository.sumAwardYearByFirstname("Nobody"), equalTo(0L));
+		assertThat("No matches", this.personRepository.avgAwardYearByFirstname("Nobody"), nullValue());
+	}
+
+	@Test
+	public void minAndMaxAwardYear() {
+		assertThat("Brando 1972", this.personRepository.maxAwardYearByLastnameIn(Arrays.asList("Brando", "Cagney")),
+				equalTo(1972));
+		assertThat("Hoffman 1979", this.personRepository.minAwardYearByFirstname("Dustin").get(), equalTo(1979));
+		assertFalse("No matches", this.personRepository.minAwardYearByFirstname("Nobody").isPresent());
+
+		String maxId = this.personMap.keySet().stream().max(String::compareTo).get();
+		assertThat("Without criteria", this.personRepository.maxId(), equalTo(maxId));
+	}
+
+	@Test
+	public void countGroupByLastname() {
+		Map<String, Long> counts = this.personRepository.countGroupByLastname();
+
+		assertThat("Brando 1954 and 1972", counts.get("Brando"), equalTo(2L));
+		assertThat("Holden 1953", counts.get("Holden"), equalTo(1L));
+		assertThat("Every actor", counts.values().stream().mapToLong(Long::longValue).sum(),
+				equalTo((long) this.personMap.size()));
+	}
+
+	@Test
+	public void maxAndAvgAwardYearGroupByFirstname() {
+		Map<String, Integer> max = this.personRepository.maxAwardYearByFirstnameStartsWithGroupByFirstname("Ja");
+
+		assertThat("James, Jack, Jamie", max.size(), equalTo(3));
+		assertThat("James 1942", max.get("James"), equalTo(1942));
+		assertThat("Jack 1997", max.get("Jack"), equalTo(1997));
+		assertThat("Jamie 2004", max.get("Jamie"), equalTo(2004));
+
+		Map<String, Double> avg = this.personRepository.avgAwardYearByFirstnameInGroupByFirstname(
+				Arrays.asList("James", "Dustin"));
+
+		assertThat("James, Dustin", avg.size(), equalTo(2));
+		assertThat("(1940 + 1942) / 2", avg.get("James"), equalTo(1941.0));
+		assertThat("(1979 + 1988) / 2", avg.get("Dustin"), equalTo(1983.5));
+	}
+
+	@Test
+	public void minAwardYearWithQuery() {
+		assertThat("Hoffman 1979 and 1988", this.personRepository.minAwardYear("Hoffman"), equalTo(1979));
+	}
+
+	@Test
+	public void indexedPropertiesAreIndexedAtBootstrap() {
+		MapService mapService = ((MapProxyImpl<?, ?>) this.indexedPersonMap).getService();
+		Indexes indexes = mapService.getMapServiceContext().getMapContainer(TestConstants.INDEXED_PERSON_MAP_NAME)
+				.getIndexes();
+
+		assertThat("firstname", indexes.getIndex("firstname"), notNullValue());
+		assertFalse("firstname unordered", indexes.getIndex("firstname").isOrdered());
+		assertThat("lastname", indexes.getIndex("lastname"), notNullValue());
+		assertTrue("lastname ordered", indexes.getIndex("lastname").isOrdered());
+		assertThat("id", indexes.getIndex("id"), nullValue());
+		assertThat("firstname ignoring case", indexes.getIndex("lowercase_[firstname]").getRecords("jack"), hasSize(3));
+		assertThat("lastname ignoring case", indexes.getIndex("lowercase_[lastname]"), nullValue());
+		assertTrue("firstname reversed", indexes.getIndex("reversed_[firstname]").isOrdered());
+	}
 }
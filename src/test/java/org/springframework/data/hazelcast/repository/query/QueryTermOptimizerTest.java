@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hazelcast.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.data.hazelcast.repository.query.QueryTerm.Kind;
+
+import com.hazelcast.query.Predicates;
+
+/**
+ * Unit tests for {@link QueryTermOptimizer}.
+ *
+ * @author Neil Stevenson
+ */
+public class QueryTermOptimizerTest {
+
+	private static final QueryTerm LIKE = QueryTerm.of(Predicates.like("lastname", "%a%"), 3);
+
+	@Test
+	public void shouldFlattenNestedJunctions() {
+		QueryTerm term = QueryTerm.and(QueryTerm.and(equal("a", 1), LIKE), QueryTerm.and(equal("b", 2)));
+
+		QueryTerm optimized = QueryTermOptimizer.optimize(term);
+
+		assertThat(optimized.getKind(), is(Kind.AND));
+		assertThat(optimized.getTerms(), hasSize(3));
+	}
+
+	@Test
+	public void shouldMergeOredEqualitiesIntoIn() {
+		QueryTerm term = QueryTerm.or(QueryTerm.or(equal("a", 1), LIKE), equal("a", 2),
+				QueryTerm.in("a", new Comparable<?>[] {2, 3}, 1));
+
+		QueryTerm optimized = QueryTermOptimizer.optimize(term);
+
+		assertThat(optimized.getKind(), is(Kind.OR));
+		assertThat(optimized.getTerms(), hasSize(2));
+		QueryTerm in = optimized.getTerms().get(0);
+		assertThat(in.getKind(), is(Kind.IN));
+		assertThat(in.getAttribute(), is("a"));
+		assertThat(in.getValues(), contains(1, 2, 3));
+	}
+
+	@Test
+	public void shouldIntersectAndedValues() {
+		QueryTerm term = QueryTerm.and(QueryTerm.in("a", new Comparable<?>[] {1, 2}, 1), equal("a", 2));
+
+		QueryTerm optimized = QueryTermOptimizer.optimize(term);
+
+		assertThat(optimized.getKind(), is(Kind.EQUAL));
+		assertThat(optimized.getValues(), contains(2));
+	}
+
+	@Test
+	public void shouldDetectContradiction() {
+		QueryTerm term = QueryTerm.or(QueryTerm.and(equal("a", 1), LIKE, equal("a", 2)),
+				QueryTerm.and(equal("b", 1), QueryTerm.in("c", new Comparable<?>[0], 1)));
+
+		assertThat(QueryTermOptimizer.optimize(term), sameInstance(QueryTerm.FALSE));
+	}
+
+	@Test
+	public void shouldDetectAlwaysTrue() {
+		QueryTerm term = QueryTerm.and(QueryTerm.TRUE, QueryTerm.or(LIKE, QueryTerm.TRUE));
+
+		assertThat(QueryTermOptimizer.optimize(term), sameInstance(QueryTerm.TRUE));
+	}
+
+	@Test
+	public void shouldNotIntersectValuesOfDifferentClasses() {
+		QueryTerm term = QueryTerm.and(equal("a", 1), equal("a", 1L));
+
+		QueryTerm optimized = QueryTermOptimizer.optimize(term);
+
+		assertThat("Hazelcast may convert both to the same", optimized.getKind(), is(Kind.AND));
+		assertThat(optimized.getTerms(), hasSize(2));
+	}
+
+	@Test
+	public void shouldOrderCheapestFirst() {
+		QueryTerm term = QueryTerm.and(LIKE, equal("b", 2), equal("a", 1, 0));
+
+		QueryTerm optimized = QueryTermOptimizer.optimize(term);
+
+		assertThat("Indexed", optimized.getTerms().get(0).getAttribute(), is("a"));
+		assertThat("Equality", optimized.getTerms().get(1).getAttribute(), is("b"));
+		assertThat("Pattern", optimized.getTerms().get(2), sameInstance(LIKE));
+	}
+
+	private static QueryTerm equal(String attribute, Comparable<?> value) {
+		return equal(attribute, value, 1);
+	}
+
+	private static QueryTerm equal(String attribute, Comparable<?> value, int cost) {
+		return QueryTerm.equal(attribute, value, cost);
+	}
+}
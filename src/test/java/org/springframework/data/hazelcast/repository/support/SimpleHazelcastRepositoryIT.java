@@ -243,6 +243,21 @@ public class SimpleHazelcastRepositoryIT extends TestDataHelper {
 		assertThat("Only 1986 & 2009 found", count, equalTo(2));
 	}
 
+	@Test
+	public void findAll_Iterable_ID_Keeps_Order() {
+		List<String> years = new ArrayList<>();
+		years.add(YEAR_2009);
+		years.add(YEAR_9999);
+		years.add(YEAR_1986);
+
+		List<String> found = new ArrayList<>();
+		for (Makeup makeup : this.theRepository.findAllById(years)) {
+			found.add(makeup.getId());
+		}
+
+		assertThat("Missing 9999 skipped, order kept", found, contains(YEAR_2009, YEAR_1986));
+	}
+
 	@Test
 	public void findOne_ID() {
 		Makeup makeup = this.theRepository.findById(YEAR_1986).get();
@@ -23,6 +23,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.hazelcast.HazelcastKeyValueAdapter;
 import org.springframework.data.hazelcast.repository.config.EnableHazelcastRepositories;
+import org.springframework.data.hazelcast.repository.config.EnableReactiveHazelcastRepositories;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.core.KeyValueTemplate;
 
@@ -63,6 +64,14 @@ public class InstanceHelper {
 		repositoryFactoryBeanClass=MyTitleRepositoryFactoryBean.class)
 	static class InstanceHelperInner {
 	}
+
+	/**
+	 * <P>Reactive repositories have their own annotation, used in a third package.
+	 * </P>
+	 */
+	@EnableReactiveHazelcastRepositories(basePackages="test.utils.repository.reactive")
+	static class InstanceHelperReactive {
+	}
 	
 	/**
 	 * <P>
@@ -14,7 +14,9 @@ public class TestConstants {
 	public static final String MAKEUP_MAP_NAME = "Make-up";
 	public static final String MOVIE_MAP_NAME = "Movie";
 	public static final String PERSON_MAP_NAME = "Actors";
+	public static final String INDEXED_PERSON_MAP_NAME = "IndexedActors";
 	public static final String SONG_MAP_NAME = Song.class.getCanonicalName();
 
-	public static final String[] OSCAR_MAP_NAMES = { MAKEUP_MAP_NAME, MOVIE_MAP_NAME, PERSON_MAP_NAME, SONG_MAP_NAME };
+	public static final String[] OSCAR_MAP_NAMES = { MAKEUP_MAP_NAME, MOVIE_MAP_NAME, PERSON_MAP_NAME,
+			INDEXED_PERSON_MAP_NAME, SONG_MAP_NAME };
 }
@@ -11,6 +11,7 @@ import org.springframework.data.hazelcast.repository.config.Constants;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import test.utils.domain.IndexedPerson;
 import test.utils.domain.Makeup;
 import test.utils.domain.Movie;
 import test.utils.domain.Person;
@@ -34,7 +35,8 @@ import static org.junit.Assert.assertThat;
  * </P>
  * <P>
  * Load the {@code Movie} {@code IMap} with the Oscar winners for best movies,
- * {@code Person} with the Oscar winners for best actor, and {@code Song}
+ * {@code Person} and {@code IndexedPerson} with the Oscar winners for best
+ * actor, and {@code Song}
  * with the best theme songs.
  * </P>
  *
@@ -49,6 +51,7 @@ public abstract class TestDataHelper {
 	protected IMap<String, Makeup>  makeupMap;
 	protected IMap<String, Movie>  movieMap;
 	protected IMap<String, Person> personMap;
+	protected IMap<String, IndexedPerson> indexedPersonMap;
 	protected IMap<String, Song>   songMap;
 	
 	/* Use Hazelcast directly, minimise reliance on Spring as the object is
@@ -70,6 +73,9 @@ public abstract class TestDataHelper {
 		this.personMap = this.hazelcastInstance.getMap(TestConstants.PERSON_MAP_NAME);
 		loadPerson(this.personMap);
 		
+		this.indexedPersonMap = this.hazelcastInstance.getMap(TestConstants.INDEXED_PERSON_MAP_NAME);
+		loadIndexedPerson(this.indexedPersonMap);
+		
 		this.songMap = this.hazelcastInstance.getMap(TestConstants.SONG_MAP_NAME);
 		loadSong(this.songMap);
 		
@@ -129,11 +135,24 @@ public abstract class TestDataHelper {
 			person.setId(Integer.toString((int) Oscars.bestActors[i][0]));
 			person.setFirstname(Oscars.bestActors[i][1].toString());
 			person.setLastname(Oscars.bestActors[i][2].toString());
+			person.setAwardYear((Integer) Oscars.bestActors[i][0]);
 
 			personMap.put(person.getId(), person);
 		}
 	}
 
+	private void loadIndexedPerson(IMap<String, IndexedPerson> indexedPersonMap) {
+		for (int i = 0; i < Oscars.bestActors.length; i++) {
+			IndexedPerson person = new IndexedPerson();
+
+			person.setId(Integer.toString((int) Oscars.bestActors[i][0]));
+			person.setFirstname(Oscars.bestActors[i][1].toString());
+			person.setLastname(Oscars.bestActors[i][2].toString());
+
+			indexedPersonMap.put(person.getId(), person);
+		}
+	}
+
 	private void loadSong(IMap<String, Song> songMap) {
 		for (int i = 0; i < Oscars.bestSongs.length; i++) {
 			Song song = new Song();
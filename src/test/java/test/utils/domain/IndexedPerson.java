@@ -0,0 +1,97 @@
+package test.utils.domain;
+
+import java.io.Serializable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.hazelcast.Indexed;
+import org.springframework.data.keyvalue.annotation.KeySpace;
+
+import test.utils.TestConstants;
+
+/**
+ * <P>
+ * Domain class for tests of {@link Indexed @Indexed} properties, holding the same best actors as {@link Person} in
+ * its own map, "{@code IndexedActors}", so the indexes do not change how queries on {@link Person} run.
+ * </P>
+ * <P>
+ * The {@code firstname} has an unordered index plus a lower-cased and a reversed copy, and the {@code lastname} an
+ * ordered index.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+@KeySpace(TestConstants.INDEXED_PERSON_MAP_NAME)
+public class IndexedPerson implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@Id private String id;
+	@Indexed(ignoreCase = true, reversed = true) private String firstname;
+	@Indexed(ordered = true) private String lastname;
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getFirstname() {
+		return firstname;
+	}
+
+	public void setFirstname(String firstname) {
+		this.firstname = firstname;
+	}
+
+	public String getLastname() {
+		return lastname;
+	}
+
+	public void setLastname(String lastname) {
+		this.lastname = lastname;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((firstname == null) ? 0 : firstname.hashCode());
+		result = prime * result + ((id == null) ? 0 : id.hashCode());
+		result = prime * result + ((lastname == null) ? 0 : lastname.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		IndexedPerson other = (IndexedPerson) obj;
+		if (firstname == null) {
+			if (other.firstname != null)
+				return false;
+		} else if (!firstname.equals(other.firstname))
+			return false;
+		if (id == null) {
+			if (other.id != null)
+				return false;
+		} else if (!id.equals(other.id))
+			return false;
+		if (lastname == null) {
+			if (other.lastname != null)
+				return false;
+		} else if (!lastname.equals(other.lastname))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "IndexedPerson [id=" + id + ", firstname=" + firstname + ", lastname=" + lastname + "]";
+	}
+
+}
@@ -30,6 +30,7 @@ public class Person implements Comparable<Person>, Serializable {
 	@Id private String id;
 	private String firstname;
 	private String lastname;
+	private Integer awardYear;
 
 	public String getId() {
 		return id;
@@ -55,6 +56,14 @@ public class Person implements Comparable<Person>, Serializable {
 		this.lastname = lastname;
 	}
 
+	public Integer getAwardYear() {
+		return awardYear;
+	}
+
+	public void setAwardYear(Integer awardYear) {
+		this.awardYear = awardYear;
+	}
+
 	// Sort by lastname then firstname
 	@Override
 	public int compareTo(Person that) {
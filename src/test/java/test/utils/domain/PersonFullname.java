@@ -0,0 +1,26 @@
+package test.utils.domain;
+
+/**
+ * <P>
+ * DTO of {@link Person} made from the whole domain object, so it cannot be projected on the members.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class PersonFullname {
+
+	private final String fullname;
+
+	public PersonFullname(Person person) {
+		this.fullname = person.getFirstname() + " " + person.getLastname();
+	}
+
+	public String getFullname() {
+		return fullname;
+	}
+
+	@Override
+	public String toString() {
+		return fullname;
+	}
+}
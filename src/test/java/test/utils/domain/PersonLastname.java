@@ -0,0 +1,14 @@
+package test.utils.domain;
+
+/**
+ * <P>
+ * Closed interface projection of {@link Person}, for queries that only need the lastname.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public interface PersonLastname {
+
+	public String getLastname();
+
+}
@@ -0,0 +1,32 @@
+package test.utils.domain;
+
+/**
+ * <P>
+ * DTO projection of {@link Person}, holding the names but not the id.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public class PersonNames {
+
+	private final String firstname;
+	private final String lastname;
+
+	public PersonNames(String firstname, String lastname) {
+		this.firstname = firstname;
+		this.lastname = lastname;
+	}
+
+	public String getFirstname() {
+		return firstname;
+	}
+
+	public String getLastname() {
+		return lastname;
+	}
+
+	@Override
+	public String toString() {
+		return firstname + " " + lastname;
+	}
+}
@@ -0,0 +1,43 @@
+package test.utils.repository.reactive;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.hazelcast.repository.ReactiveHazelcastRepository;
+import org.springframework.data.hazelcast.repository.query.Query;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import test.utils.domain.Person;
+import test.utils.domain.PersonLastname;
+
+/**
+ * <P>
+ * Reactive repository for the same domain class as
+ * {@link test.utils.repository.standard.PersonRepository PersonRepository}, found by
+ * {@link org.springframework.data.hazelcast.repository.config.EnableReactiveHazelcastRepositories
+ * &#64;EnableReactiveHazelcastRepositories}.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public interface ReactivePersonRepository extends ReactiveHazelcastRepository<Person, String> {
+
+	public Flux<Person> findByFirstname(String firstname);
+
+	public Flux<Person> findByLastnameOrderByIdAsc(String lastname);
+
+	public Flux<Person> findByFirstnameStartsWith(String prefix, Sort sort);
+
+	public Flux<PersonLastname> findByIdStartsWith(String prefix);
+
+	public Mono<Person> findFirstByFirstnameOrderByIdDesc(String firstname);
+
+	public Mono<Long> countByFirstname(String firstname);
+
+	public Mono<Boolean> existsByLastname(String lastname);
+
+	public Mono<Void> deleteByLastname(String lastname);
+
+	@Query("firstname=%s")
+	public Flux<Person> peoplewiththeirFirstName(String firstName);
+
+}
@@ -0,0 +1,24 @@
+package test.utils.repository.standard;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.hazelcast.repository.HazelcastRepository;
+
+import test.utils.domain.IndexedPerson;
+
+/**
+ * <P>
+ * Repository for {@link IndexedPerson}, with queries that can be answered from the indexes added at bootstrap.
+ * </P>
+ *
+ * @author Neil Stevenson
+ */
+public interface IndexedPersonRepository extends HazelcastRepository<IndexedPerson, String> {
+
+	public List<IndexedPerson> findByFirstnameInIgnoreCase(Collection<String> firstnames);
+
+	public List<IndexedPerson> findByLastnameStartsWith(String lastname);
+
+	public List<IndexedPerson> findByFirstnameEndsWith(String firstname);
+
+}
@@ -2,16 +2,23 @@ package test.utils.repository.standard;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.hazelcast.repository.HazelcastAsyncRepository;
 import org.springframework.data.hazelcast.repository.HazelcastRepository;
 import org.springframework.data.hazelcast.repository.query.Query;
 import org.springframework.data.repository.query.Param;
 
 import test.utils.domain.Person;
+import test.utils.domain.PersonFullname;
+import test.utils.domain.PersonLastname;
+import test.utils.domain.PersonNames;
 
 /**
  * <P>
@@ -38,7 +45,7 @@ import test.utils.domain.Person;
  * @author Oliver Gierke
  * @author Neil Stevenson
  */
-public interface PersonRepository extends HazelcastRepository<Person, String> {
+public interface PersonRepository extends HazelcastRepository<Person, String>, HazelcastAsyncRepository<Person, String> {
 
 	public Long countByFirstname(String firstname);
 
@@ -46,6 +53,18 @@ public interface PersonRepository extends HazelcastRepository<Person, String> {
 
 	public Long countDistinctLastnameByFirstname(String firstname);
 
+	public List<String> findDistinctLastnameByFirstnameOrderByLastnameAsc(String firstname);
+
+	public Set<String> findDistinctFirstnameByLastnameIn(Collection<String> lastnames);
+
+	public Stream<String> findDistinctFirst2LastnameByFirstnameStartsWith(String prefix, Sort sort);
+
+	public List<Person> findDistinctByFirstname(String firstname);
+
+	public List<Person> findDistinctFirst3ByLastname(String lastname);
+
+	public Person findDistinctTopByFirstname(String firstname);
+
 	public Person deleteByLastname(String firstname);
 
 	public Person findFirstIdByOrderById();
@@ -88,6 +107,18 @@ public interface PersonRepository extends HazelcastRepository<Person, String> {
 
 	public List<Person> findByFirstnameEndsWithAndLastnameNotIn(String firstname, Collection<String> lastnames);
 
+	public List<PersonLastname> findByFirstnameOrderByLastnameAsc(String firstname);
+
+	public PersonNames findNamesById(String id);
+
+	public Stream<PersonNames> streamNamesByLastnameStartsWith(String lastname);
+
+	public PersonFullname findFullnameById(String id);
+
+	public List<PersonFullname> findFullnameByFirstnameOrderByLastnameAsc(String firstname);
+
+	public Page<PersonLastname> findByFirstnameLike(String firstname, Pageable pageable);
+
 	public Stream<Person> findFirst4By();
 
 	public Stream<Person> streamByLastnameGreaterThanEqual(String lastname);
@@ -111,7 +142,27 @@ public interface PersonRepository extends HazelcastRepository<Person, String> {
 
 	public Long countByIdBetween(String firstId, String lastId);
 
-	public Person findByFirstnameOrLastnameAllIgnoreCase(String firstname, String lastname);
+	public boolean existsByLastname(String lastname);
+
+	public Boolean existsByFirstnameAndLastnameAllIgnoreCase(String firstname, String lastname);
+
+	public Long sumAwardYearByFirstname(String firstname);
+
+	public Double avgAwardYearByFirstname(String firstname);
+
+	public int maxAwardYearByLastnameIn(Collection<String> lastnames);
+
+	public Optional<Integer> minAwardYearByFirstname(String firstname);
+
+	public String maxId();
+
+	public Map<String, Long> countGroupByLastname();
+
+	public Map<String, Integer> maxAwardYearByFirstnameStartsWithGroupByFirstname(String prefix);
+
+	public Map<String, Double> avgAwardYearByFirstnameInGroupByFirstname(Collection<String> firstnames);
+
+		public Person findByFirstnameOrLastnameAllIgnoreCase(String firstname, String lastname);
 
 	public Person findByFirstnameOrLastnameIgnoreCase(String firstname, String lastname);
 
@@ -126,4 +177,43 @@ public interface PersonRepository extends HazelcastRepository<Person, String> {
 	@Query("firstname=%s and lastname=%s")
 	public List<Person> peoplewithFirstAndLastName(String firstName,String lastName);
 
+	@Query("lastname = ?2 and firstname = ?1")
+	public List<Person> peoplewithFirstAndLastNamePositional(String firstName, String lastName);
+
+	@Query("firstname = %s")
+	public List<Person> peoplewithFirstName(String firstName, Sort sort);
+
+	@Query("firstname = %s")
+	public List<Person> findFirst2PeoplewithFirstName(String firstName, Sort sort);
+
+	@Query("firstname = %s")
+	public long countPeoplewithFirstName(String firstName);
+
+	@Query("lastname = %s")
+	public Integer minAwardYear(String lastName);
+
+	@Query("id BETWEEN %s AND %s")
+	public Page<Person> peopleBetween(String from, String to, Pageable pageable);
+
+	@Query("id BETWEEN %s AND %s")
+	public Slice<Person> peopleBetweenSlice(String from, String to, Pageable pageable);
+
+	@Query("id BETWEEN %s AND %s")
+	public Stream<Person> streamPeopleBetween(String from, String to);
+
+	@Query("id BETWEEN %s AND %s")
+	public List<Person> listPeopleBetween(String from, String to, Pageable pageable);
+
+	@Query("id BETWEEN %s AND %s")
+	public Stream<Person> streamPeopleBetween(String from, String to, Pageable pageable);
+
+	@Query("firstname IN :firstnames and id >= :from")
+	public List<Person> peoplewithFirstNameInFrom(@Param("from") String from, @Param("firstnames") Collection<String> firstnames);
+
+	@Query("awardYear >= 2010 AND awardYear < 2013")
+	public List<Person> peopleAwardedFrom2010To2012();
+
+	@Query("awardYear IN (1940, 1942) OR awardYear > 99999")
+	public List<Person> peopleAwardedIn1940Or1942();
+
 }